@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.pojo.person.Person;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Compares creating many objects with a single engine against calling
+ * {@link Instancio#create(Class)} in a loop. Results are per created object.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkCreateBenchmark {
+
+    private static final int SIZE = 100;
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final Settings STRING_POOL_SETTINGS = Settings.create()
+            .set(Setting.STRING_POOL_SIZE, 1000)
+            .lock();
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Person> createInLoop() {
+        final List<Person> results = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            results.add(Instancio.create(Person.class));
+        }
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Person> createList() {
+        return Instancio.of(Person.class).createList(SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Person> createListWithStringPool() {
+        return Instancio.of(Person.class).withSettings(STRING_POOL_SETTINGS).createList(SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Person> stream() {
+        return Instancio.stream(Person.class).limit(SIZE).collect(toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public List<Person> createListParallel() {
+        return Instancio.of(Person.class).createList(SIZE, PARALLELISM);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.Instancio;
+import org.instancio.TypeToken;
+import org.instancio.pojo.arrays.ArrayPerson;
+import org.instancio.pojo.arrays.object.WithIntegerArray;
+import org.instancio.pojo.arrays.primitive.WithIntArray;
+import org.instancio.pojo.cyclic.IndirectCircularRef;
+import org.instancio.pojo.generics.MiscFields;
+import org.instancio.pojo.generics.basic.Item;
+import org.instancio.pojo.interfaces.ItemInterface;
+import org.instancio.pojo.interfaces.ListOfItemInterfaceString;
+import org.instancio.pojo.interfaces.SingleInterfaceImpl;
+import org.instancio.pojo.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.instancio.Bindings.all;
+
+/**
+ * Measures end-to-end object creation via {@link Instancio#create(Class)}
+ * for representative POJO shapes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateBenchmark {
+
+    @Benchmark
+    public Person person() {
+        return Instancio.create(Person.class);
+    }
+
+    @Benchmark
+    public IndirectCircularRef cyclic() {
+        return Instancio.create(IndirectCircularRef.class);
+    }
+
+    @Benchmark
+    public MiscFields<Long, String, Integer> generics() {
+        return Instancio.create(new TypeToken<MiscFields<Long, String, Integer>>() {});
+    }
+
+    @Benchmark
+    public ArrayPerson arrays() {
+        return Instancio.create(ArrayPerson.class);
+    }
+
+    @Benchmark
+    public WithIntArray primitiveArray() {
+        return Instancio.of(WithIntArray.class)
+                .generate(all(int[].class), gen -> gen.array().length(1000))
+                .create();
+    }
+
+    @Benchmark
+    public WithIntegerArray wrapperArray() {
+        return Instancio.of(WithIntegerArray.class)
+                .generate(all(Integer[].class), gen -> gen.array().length(1000))
+                .create();
+    }
+
+    @Benchmark
+    public SingleInterfaceImpl.WidgetContainer interfaceWithSingleImplementation() {
+        return Instancio.create(SingleInterfaceImpl.WidgetContainer.class);
+    }
+
+    @Benchmark
+    public ListOfItemInterfaceString interfaceWithSubtypeMapping() {
+        return Instancio.of(ListOfItemInterfaceString.class)
+                .map(ItemInterface.class, Item.class)
+                .create();
+    }
+}
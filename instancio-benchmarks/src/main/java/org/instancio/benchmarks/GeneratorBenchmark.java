@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.lang.EnumGenerator;
+import org.instancio.generator.lang.StringGenerator;
+import org.instancio.generator.util.OneOfCollectionGenerator;
+import org.instancio.generator.util.UUIDGenerator;
+import org.instancio.internal.random.RandomAlgorithm;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.internal.random.RandomProviderImpl;
+import org.instancio.pojo.person.Gender;
+import org.instancio.settings.Settings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures individual generators in isolation from the engine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+
+    private static final int REFERENCE_DATA_SIZE = 50_000;
+
+    @Param({"JDK", "SPLITMIX64", "XOSHIRO256_STAR_STAR"})
+    private RandomAlgorithm algorithm;
+
+    private RandomProvider random;
+    private StringGenerator stringGenerator;
+    private StringGenerator longHexStringGenerator;
+    private UUIDGenerator uuidGenerator;
+    private EnumGenerator<Gender> enumGenerator;
+    private EnumGenerator<Gender> weightedEnumGenerator;
+    private OneOfCollectionGenerator<String> oneOfSetGenerator;
+
+    @Setup
+    public void setup() {
+        random = new RandomProviderImpl(12345, algorithm);
+        final GeneratorContext context = new GeneratorContext(Settings.defaults(), random);
+        stringGenerator = new StringGenerator(context);
+        longHexStringGenerator = new StringGenerator(context);
+        longHexStringGenerator.prefix("id-").length(64).hex();
+        uuidGenerator = new UUIDGenerator(context);
+        enumGenerator = new EnumGenerator<>(context, Gender.class);
+        weightedEnumGenerator = new EnumGenerator<>(context, Gender.class);
+        weightedEnumGenerator.weight(Gender.MALE, 5).weight(Gender.FEMALE, 4);
+
+        final Set<String> codes = new LinkedHashSet<>();
+        for (int i = 0; i < REFERENCE_DATA_SIZE; i++) {
+            codes.add("SKU-" + i);
+        }
+        oneOfSetGenerator = new OneOfCollectionGenerator<>(context);
+        oneOfSetGenerator.oneOf(codes);
+    }
+
+    @Benchmark
+    public String string() {
+        return stringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public String longHexString() {
+        return longHexStringGenerator.generate(random);
+    }
+
+    @Benchmark
+    public UUID uuid() {
+        return uuidGenerator.generate(random);
+    }
+
+    @Benchmark
+    public Gender enumValue() {
+        return enumGenerator.generate(random);
+    }
+
+    @Benchmark
+    public Gender weightedEnumValue() {
+        return weightedEnumGenerator.generate(random);
+    }
+
+    @Benchmark
+    public String oneOfLargeSet() {
+        return oneOfSetGenerator.generate(random);
+    }
+}
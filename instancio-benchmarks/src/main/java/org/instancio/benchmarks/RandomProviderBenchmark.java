@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmarks;
+
+import org.instancio.internal.random.RandomAlgorithm;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.internal.random.RandomProviderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RandomProviderImpl} primitives for each {@link RandomAlgorithm}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomProviderBenchmark {
+
+    @Param({"JDK", "SPLITMIX64", "XOSHIRO256_STAR_STAR"})
+    private RandomAlgorithm algorithm;
+
+    private RandomProvider random;
+
+    @Setup
+    public void setup() {
+        random = new RandomProviderImpl(12345, algorithm);
+    }
+
+    @Benchmark
+    public long wideLongBetween() {
+        return random.longBetween(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2);
+    }
+
+    @Benchmark
+    public boolean trueOrFalse() {
+        return random.trueOrFalse();
+    }
+
+    @Benchmark
+    public int intBetween() {
+        return random.intBetween(1, 10_000);
+    }
+
+    @Benchmark
+    public long longBetween() {
+        return random.longBetween(1, 10_000_000_000L);
+    }
+
+    @Benchmark
+    public double doubleBetween() {
+        return random.doubleBetween(1, 10_000);
+    }
+
+    @Benchmark
+    public char character() {
+        return random.character();
+    }
+
+    @Benchmark
+    public String alphabetic() {
+        return random.alphabetic(10);
+    }
+}
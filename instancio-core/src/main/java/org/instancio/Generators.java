@@ -22,6 +22,8 @@ import org.instancio.generator.array.OneOfArrayGenerator;
 import org.instancio.generator.array.OneOfArrayGeneratorSpec;
 import org.instancio.generator.lang.ByteGenerator;
 import org.instancio.generator.lang.DoubleGenerator;
+import org.instancio.generator.lang.EnumGenerator;
+import org.instancio.generator.lang.EnumGeneratorSpec;
 import org.instancio.generator.lang.FloatGenerator;
 import org.instancio.generator.lang.IntegerGenerator;
 import org.instancio.generator.lang.LongGenerator;
@@ -46,6 +48,7 @@ import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Map;
 
 /**
  * This class provides access to built-in generators.
@@ -160,6 +163,17 @@ public class Generators {
         return new LocalDateTimeGenerator(context);
     }
 
+    /**
+     * Customises generated enum values.
+     *
+     * @param enumClass type of enum
+     * @param <E>       enum type
+     * @return customised generator
+     */
+    public <E extends Enum<E>> EnumGeneratorSpec<E> enumOf(Class<E> enumClass) {
+        return new EnumGenerator<>(context, enumClass);
+    }
+
     /**
      * Picks a random value from the given choices.
      *
@@ -173,7 +187,8 @@ public class Generators {
     }
 
     /**
-     * Picks a random value from the given choices.
+     * Picks a random value from the given choices. The choices are copied,
+     * therefore later modifications of the collection are not reflected.
      *
      * @param choices to choose from
      * @param <T>     element type
@@ -183,6 +198,18 @@ public class Generators {
         return new OneOfCollectionGenerator<T>(context).oneOf(choices);
     }
 
+    /**
+     * Picks a random value from the keys of the given map, with probability
+     * proportional to the corresponding weight.
+     *
+     * @param weightedChoices choices mapped to their non-negative weights
+     * @param <T>             element type
+     * @return generator for making a selection
+     */
+    public final <T> OneOfCollectionGeneratorSpec<T> oneOf(Map<T, Double> weightedChoices) {
+        return new OneOfCollectionGenerator<T>(context).oneOf(weightedChoices);
+    }
+
     /**
      * Customises generated arrays.
      *
@@ -18,6 +18,8 @@ package org.instancio;
 import org.instancio.internal.ClassInstancioApiImpl;
 import org.instancio.internal.InstancioApiImpl;
 
+import java.util.stream.Stream;
+
 /**
  * Instancio API for creating instances of a class.
  *
@@ -164,6 +166,44 @@ public class Instancio {
         return of(model).create();
     }
 
+    /**
+     * Creates an infinite stream of fully-populated instances of given class.
+     * <p>
+     * Example: {@code List<Person> persons = Instancio.stream(Person.class).limit(10).collect(Collectors.toList())}
+     *
+     * @param klass to create
+     * @param <T>   type
+     * @return an infinite stream of fully-populated instances
+     * @see InstancioApi#stream()
+     */
+    public static <T> Stream<T> stream(final Class<T> klass) {
+        return of(klass).stream();
+    }
+
+    /**
+     * Creates an infinite stream of fully-populated instances of type specified in the type token.
+     *
+     * @param typeToken containing type to create
+     * @param <T>       type
+     * @return an infinite stream of fully-populated instances
+     * @see InstancioApi#stream()
+     */
+    public static <T> Stream<T> stream(final TypeTokenSupplier<T> typeToken) {
+        return of(typeToken).stream();
+    }
+
+    /**
+     * Creates an infinite stream of populated instances of a class represented by the given model.
+     *
+     * @param model specifying generation parameters of the objects to create
+     * @param <T>   type
+     * @return an infinite stream of populated instances
+     * @see InstancioApi#stream()
+     */
+    public static <T> Stream<T> stream(final Model<T> model) {
+        return of(model).stream();
+    }
+
     /**
      * Builder version of {@link #create(Class)} that allows customisation of generated values.
      *
@@ -18,8 +18,10 @@ package org.instancio;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.settings.Settings;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Instancio API for generating instances of a class populated with random data.
@@ -43,6 +45,83 @@ public interface InstancioApi<T> {
      */
     T create();
 
+    /**
+     * Creates an infinite stream of populated instances.
+     * <p>
+     * The model is built once when this method is called, therefore
+     * creating each element of the stream is cheaper than calling
+     * {@link #create()} repeatedly. The stream should be limited,
+     * for example:
+     * <pre>{@code
+     *     List<Person> persons = Instancio.of(Person.class)
+     *             .stream()
+     *             .limit(100)
+     *             .collect(Collectors.toList());
+     * }</pre>
+     * <p>
+     * If a seed is specified, the stream will produce the same
+     * sequence of objects each time it is created.
+     *
+     * @return an infinite stream of populated instances
+     */
+    Stream<T> stream();
+
+    /**
+     * Creates a list containing the given number of populated instances.
+     * This is a shorthand for collecting a limited {@link #stream()}.
+     *
+     * @param size number of instances to create
+     * @return a list of populated instances
+     */
+    List<T> createList(int size);
+
+    /**
+     * Creates an array containing the given number of populated instances.
+     * The component type of the array is the raw class of the type being created.
+     *
+     * @param size number of instances to create
+     * @return an array of populated instances
+     */
+    T[] createArray(int size);
+
+    /**
+     * Creates an infinite parallel stream of populated instances.
+     * <p>
+     * Each element is created using its own random sequence whose 64-bit seed
+     * is derived from the seed of this API and the element's index. Therefore, given
+     * the same seed, the stream produces the same elements regardless of the number
+     * of threads or the order in which elements are created. Note that the elements
+     * are not the same as those produced by the sequential {@link #stream()}.
+     * <p>
+     * Since elements are created concurrently, user-supplied generators, suppliers
+     * and {@link #onComplete(Binding, OnCompleteCallback)} callbacks may be invoked
+     * from several threads at the same time, and therefore must be thread-safe.
+     * If the number of elements
+     * is known in advance, {@link #createList(int, int)} should be preferred,
+     * since a bounded range can be divided between threads more evenly
+     * than an infinite stream.
+     *
+     * @return an infinite parallel stream of populated instances
+     * @see #createList(int, int)
+     */
+    Stream<T> parallelStream();
+
+    /**
+     * Creates a list containing the given number of populated instances
+     * using a dedicated {@link java.util.concurrent.ForkJoinPool} with the
+     * given parallelism. Given the same seed, the result is the same
+     * regardless of the parallelism, and is the same as collecting
+     * the first {@code size} elements of {@link #parallelStream()}.
+     * <p>
+     * As with {@link #parallelStream()}, user-supplied generators, suppliers
+     * and callbacks may be invoked from several threads at the same time.
+     *
+     * @param size        number of instances to create
+     * @param parallelism number of threads to use
+     * @return a list of populated instances
+     */
+    List<T> createList(int size, int parallelism);
+
     /**
      * Creates a model containing all the information for populating a class.
      * <p>
@@ -179,6 +258,10 @@ public interface InstancioApi<T> {
     /**
      * A callback that gets invoked after an object has been fully populated.
      * <p>
+     * When objects are created using {@link #parallelStream()} or
+     * {@link #createList(int, int)}, the callback may be invoked
+     * from several threads at the same time.
+     * <p>
      * Example:
      * <pre>{@code
      *     // Sets countryCode field on all instances of Phone to the specified value
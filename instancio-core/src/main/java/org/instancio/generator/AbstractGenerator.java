@@ -16,6 +16,7 @@
 package org.instancio.generator;
 
 import org.instancio.Generator;
+import org.instancio.internal.random.RandomProvider;
 
 /**
  * Base class for generators that require the {@link GeneratorContext}.
@@ -33,4 +34,29 @@ public abstract class AbstractGenerator<T> implements Generator<T> {
     public GeneratorContext getContext() {
         return context;
     }
+
+    /**
+     * Returns hints using the given random provider for any random values,
+     * such as collection sizes. By default, delegates to {@link #getHints()}.
+     *
+     * @param random provider for random values
+     * @return generated hints
+     */
+    public GeneratedHints getHints(final RandomProvider random) {
+        return getHints();
+    }
+
+    /**
+     * Generates a value together with its hints. By default, generates the value
+     * using {@link #generate(RandomProvider)} and then obtains hints using
+     * {@link #getHints(RandomProvider)}. Generators whose hints describe
+     * the generated value, such as its size, can override this method
+     * to create both from the same random values.
+     *
+     * @param random provider for random values
+     * @return generator result
+     */
+    public GeneratorResult generateResult(final RandomProvider random) {
+        return GeneratorResult.create(generate(random), getHints(random));
+    }
 }
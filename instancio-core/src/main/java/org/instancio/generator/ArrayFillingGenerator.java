@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator;
+
+import org.instancio.internal.random.RandomProvider;
+
+/**
+ * A {@link BulkGenerator} of values that have a primitive type,
+ * which can also populate primitive arrays in bulk.
+ *
+ * @param <T> type generated by this generator
+ */
+public interface ArrayFillingGenerator<T> extends BulkGenerator<T> {
+
+    /**
+     * Populates elements of the given primitive array from index {@code 0}
+     * (inclusive) to {@code length} (exclusive). Elements for which a {@code null}
+     * would have been generated retain their default value.
+     *
+     * @param array            primitive array of the type generated by this generator
+     * @param length           number of elements to populate
+     * @param nullableElements whether elements can be randomly left unpopulated
+     * @param random           provider for random values
+     */
+    void fillPrimitiveArray(Object array, int length, boolean nullableElements, RandomProvider random);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator;
+
+import org.instancio.Generator;
+import org.instancio.internal.random.RandomProvider;
+
+import java.util.Collection;
+
+/**
+ * A generator of values that have no fields to populate, which allows
+ * arrays and collections of such values to be populated in bulk,
+ * without producing a {@link GeneratorResult} for each element.
+ * <p>
+ * Implementations must consume random values in the same order as
+ * populating each element individually, so that the result does
+ * not depend on how it was populated.
+ *
+ * @param <T> type generated by this generator
+ */
+public interface BulkGenerator<T> extends Generator<T> {
+
+    /**
+     * Populates elements of the given array from index {@code 0}
+     * (inclusive) to {@code length} (exclusive).
+     *
+     * @param array            to populate
+     * @param length           number of elements to populate
+     * @param nullableElements whether elements can be randomly left unpopulated
+     * @param random           provider for random values
+     */
+    default void fillArray(final Object[] array, final int length, final boolean nullableElements, final RandomProvider random) {
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements)) {
+                array[i] = generate(random);
+            }
+        }
+    }
+
+    /**
+     * Adds the given number of generated elements to a collection.
+     * A {@code null} element is only added if elements are nullable.
+     *
+     * @param collection       to populate
+     * @param size             number of elements to generate
+     * @param nullableElements whether {@code null} elements can be randomly added
+     * @param random           provider for random values
+     */
+    default void addElements(final Collection<Object> collection, final int size, final boolean nullableElements, final RandomProvider random) {
+        for (int i = 0; i < size; i++) {
+            final T value = generate(random);
+            final Object element = random.diceRoll(nullableElements) ? null : value;
+            if (element != null || nullableElements) {
+                collection.add(element);
+            }
+        }
+    }
+}
@@ -43,15 +43,22 @@ import org.instancio.generator.util.concurrent.ConcurrentSkipListMapGenerator;
 import org.instancio.generator.util.concurrent.atomic.AtomicIntegerGenerator;
 import org.instancio.generator.util.concurrent.atomic.AtomicLongGenerator;
 import org.instancio.generator.xml.XMLGregorianCalendarGenerator;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
 
+import javax.annotation.Nullable;
 import javax.xml.datatype.XMLGregorianCalendar;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -61,6 +68,7 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -68,7 +76,18 @@ import java.util.concurrent.atomic.AtomicLong;
 
 public class GeneratorResolver {
 
+    private static final int MAX_SHARED_RESOLVERS = 16;
+
+    private static final Map<SettingsKey, GeneratorResolver> SHARED_RESOLVERS = Collections.synchronizedMap(
+            new LinkedHashMap<SettingsKey, GeneratorResolver>(MAX_SHARED_RESOLVERS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<SettingsKey, GeneratorResolver> eldest) {
+                    return size() > MAX_SHARED_RESOLVERS;
+                }
+            });
+
     private final Map<Class<?>, Generator<?>> generators = new HashMap<>();
+    private final Map<Class<?>, Generator<?>> arrayAndEnumGenerators = new ConcurrentHashMap<>();
     private final GeneratorContext context;
 
     public GeneratorResolver(final GeneratorContext context) {
@@ -117,13 +136,71 @@ public class GeneratorResolver {
         generators.put(NavigableSet.class, new TreeSetGenerator<>(context));
     }
 
+    /**
+     * Returns a resolver for the given settings that is shared across threads.
+     * <p>
+     * Generators returned by a shared resolver must not be modified. Since the resolver
+     * is not bound to a random provider, it must be passed in when generating values
+     * (see {@link GeneratorResult#fromGenerator(Generator, RandomProvider)}).
+     *
+     * @param settings to create the resolver with
+     * @return shared generator resolver
+     */
+    public static GeneratorResolver getShared(final Settings settings) {
+        final SettingsKey key = new SettingsKey(settings);
+        GeneratorResolver resolver = SHARED_RESOLVERS.get(key);
+        if (resolver == null) {
+            // use a locked copy since given settings may be modified afterwards
+            final Settings snapshot = Settings.from(settings).lock();
+            resolver = new GeneratorResolver(new GeneratorContext(snapshot, null));
+            SHARED_RESOLVERS.put(key, resolver);
+        }
+        return resolver;
+    }
+
+    /**
+     * Immutable snapshot of setting values and subtype mappings
+     * used for looking up shared resolvers.
+     */
+    private static final class SettingsKey {
+        private final List<Object> values;
+        private final Map<Class<?>, Class<?>> subtypeMap;
+        private final int hashCode;
+
+        SettingsKey(final Settings settings) {
+            final Setting[] keys = Setting.values();
+            final Object[] settingValues = new Object[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                settingValues[i] = settings.get(keys[i]);
+            }
+            this.values = Arrays.asList(settingValues);
+            this.subtypeMap = new HashMap<>(settings.getSubtypeMap());
+            this.hashCode = 31 * values.hashCode() + subtypeMap.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SettingsKey)) return false;
+            final SettingsKey other = (SettingsKey) o;
+            return hashCode == other.hashCode
+                    && values.equals(other.values)
+                    && subtypeMap.equals(other.subtypeMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     public Optional<Generator<?>> get(final Class<?> klass) {
         Generator<?> generator = generators.get(klass);
         if (generator == null) {
             if (klass.isArray()) {
-                generator = new ArrayGenerator<>(context, klass);
+                generator = arrayAndEnumGenerators.computeIfAbsent(klass, k -> new ArrayGenerator<>(context, k));
             } else if (klass.isEnum()) {
-                generator = new EnumGenerator(context, klass);
+                generator = arrayAndEnumGenerators.computeIfAbsent(klass, k -> new EnumGenerator<>(context, k));
             }
         }
         return Optional.ofNullable(generator);
@@ -15,6 +15,9 @@
  */
 package org.instancio.generator;
 
+import org.instancio.Generator;
+import org.instancio.internal.random.RandomProvider;
+
 import javax.annotation.Nullable;
 import java.util.StringJoiner;
 
@@ -52,6 +55,22 @@ public class GeneratorResult {
         return new GeneratorResult(value, hints);
     }
 
+    /**
+     * Generates a value using the given generator. If the generator is an
+     * {@link AbstractGenerator}, the result is obtained from
+     * {@link AbstractGenerator#generateResult(RandomProvider)}.
+     *
+     * @param generator to generate a value with
+     * @param random    provider for random values
+     * @return generator result
+     */
+    public static GeneratorResult fromGenerator(final Generator<?> generator, final RandomProvider random) {
+        if (generator instanceof AbstractGenerator) {
+            return ((AbstractGenerator<?>) generator).generateResult(random);
+        }
+        return new GeneratorResult(generator.generate(random), generator.getHints());
+    }
+
     public Object getValue() {
         return value;
     }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.lang;
+
+import org.instancio.internal.random.RandomProvider;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A set of characters that strings are generated from.
+ * <p>
+ * Strings are written into a buffer sized for the prefix and generated
+ * characters, so that the only copy made is the one into the string itself.
+ * If both the alphabet and the prefix consist of Latin-1 characters, the buffer
+ * holds one byte per character, which matches the compact representation
+ * used by strings on Java 9 and higher.
+ */
+final class Alphabet {
+
+    static final Alphabet UPPER_CASE = new Alphabet("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+    static final Alphabet LOWER_CASE = new Alphabet("abcdefghijklmnopqrstuvwxyz");
+    static final Alphabet DIGITS = new Alphabet("0123456789");
+    static final Alphabet HEX = new Alphabet("0123456789ABCDEF");
+    static final Alphabet ALPHANUMERIC = new Alphabet(
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+
+    private static final int MAX_LATIN1_CHAR = 0xFF;
+
+    private final char[] chars;
+    private final byte[] latin1Chars;
+
+    Alphabet(final String characters) {
+        this.chars = characters.toCharArray();
+        this.latin1Chars = isLatin1(characters)
+                ? characters.getBytes(StandardCharsets.ISO_8859_1)
+                : null;
+    }
+
+    String generate(final String prefix, final int length, final RandomProvider random) {
+        final int prefixLength = prefix.length();
+
+        if (latin1Chars != null && isLatin1(prefix)) {
+            final byte[] buffer = new byte[prefixLength + length];
+            for (int i = 0; i < prefixLength; i++) {
+                buffer[i] = (byte) prefix.charAt(i);
+            }
+            random.nextLatin1Chars(buffer, prefixLength, length, latin1Chars);
+            return new String(buffer, StandardCharsets.ISO_8859_1);
+        }
+
+        final char[] buffer = new char[prefixLength + length];
+        prefix.getChars(0, prefixLength, buffer, 0);
+        random.nextChars(buffer, prefixLength, length, chars);
+        return new String(buffer);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Alphabet)) return false;
+        return Arrays.equals(chars, ((Alphabet) o).chars);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(chars);
+    }
+
+    private static boolean isLatin1(final String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > MAX_LATIN1_CHAR) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
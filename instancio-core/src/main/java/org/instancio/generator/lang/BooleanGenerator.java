@@ -16,12 +16,13 @@
 package org.instancio.generator.lang;
 
 import org.instancio.generator.AbstractGenerator;
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class BooleanGenerator extends AbstractGenerator<Boolean> {
+public class BooleanGenerator extends AbstractGenerator<Boolean> implements ArrayFillingGenerator<Boolean> {
 
     private boolean nullable;
 
@@ -42,4 +43,14 @@ public class BooleanGenerator extends AbstractGenerator<Boolean> {
                 .ignoreChildren(true)
                 .build();
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final boolean[] values = (boolean[]) array;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.trueOrFalse();
+            }
+        }
+    }
 }
@@ -15,11 +15,13 @@
  */
 package org.instancio.generator.lang;
 
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<Byte> {
+public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<Byte>
+        implements ArrayFillingGenerator<Byte> {
 
     public ByteGenerator(final GeneratorContext context) {
         super(context,
@@ -32,4 +34,16 @@ public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<B
     protected Byte generateNonNullValue(final RandomProvider random) {
         return random.byteBetween(min, max);
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final byte[] values = (byte[]) array;
+        final byte lower = min;
+        final byte upper = max;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.byteBetween(lower, upper);
+            }
+        }
+    }
 }
@@ -16,12 +16,13 @@
 package org.instancio.generator.lang;
 
 import org.instancio.generator.AbstractGenerator;
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class CharacterGenerator extends AbstractGenerator<Character> {
+public class CharacterGenerator extends AbstractGenerator<Character> implements ArrayFillingGenerator<Character> {
 
     private boolean nullable;
 
@@ -42,4 +43,14 @@ public class CharacterGenerator extends AbstractGenerator<Character> {
                 .ignoreChildren(true)
                 .build();
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final char[] values = (char[]) array;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.character();
+            }
+        }
+    }
 }
@@ -15,11 +15,13 @@
  */
 package org.instancio.generator.lang;
 
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class DoubleGenerator extends AbstractRandomComparableNumberGeneratorSpec<Double> {
+public class DoubleGenerator extends AbstractRandomComparableNumberGeneratorSpec<Double>
+        implements ArrayFillingGenerator<Double> {
 
     public DoubleGenerator(final GeneratorContext context) {
         super(context,
@@ -32,4 +34,16 @@ public class DoubleGenerator extends AbstractRandomComparableNumberGeneratorSpec
     protected Double generateNonNullValue(final RandomProvider random) {
         return random.doubleBetween(min, max);
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final double[] values = (double[]) array;
+        final double lower = min;
+        final double upper = max;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.doubleBetween(lower, upper);
+            }
+        }
+    }
 }
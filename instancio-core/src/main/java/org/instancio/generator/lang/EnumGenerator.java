@@ -18,27 +18,82 @@ package org.instancio.generator.lang;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.AbstractGenerator;
 import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.AliasTable;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.util.Verify;
 
-import java.lang.reflect.Method;
+import java.util.Arrays;
 
-public class EnumGenerator extends AbstractGenerator<Enum<?>> {
-    private final Class<?> enumClass;
+public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E> implements EnumGeneratorSpec<E> {
 
+    /**
+     * Enum constants per class. The cached arrays are shared and must not be modified.
+     */
+    private static final ClassValue<Enum<?>[]> CONSTANTS = new ClassValue<Enum<?>[]>() {
+        @Override
+        protected Enum<?>[] computeValue(final Class<?> type) {
+            return (Enum<?>[]) type.getEnumConstants();
+        }
+    };
+
+    private final Class<E> enumClass;
+    private final E[] constants;
+    private double[] weights;
+    private int positiveWeights;
+    private volatile AliasTable aliasTable;
+
+    @SuppressWarnings("unchecked")
     public EnumGenerator(final GeneratorContext context, final Class<?> enumClass) {
         super(context);
-        this.enumClass = Verify.notNull(enumClass, "Enum class must not be null");
+        Verify.notNull(enumClass, "Enum class must not be null");
+        Verify.isTrue(enumClass.isEnum(), "Class must be an enum: %s", enumClass.getName());
+        this.enumClass = (Class<E>) enumClass;
+        this.constants = (E[]) CONSTANTS.get(enumClass);
+    }
+
+    @Override
+    public EnumGeneratorSpec<E> weight(final E constant, final double weight) {
+        Verify.notNull(constant, "Enum constant must not be null");
+        Verify.isTrue(weight >= 0 && !Double.isInfinite(weight), "Weight must be a finite non-negative number: %s", weight);
+        if (weights == null) {
+            weights = new double[constants.length];
+            Arrays.fill(weights, 1);
+            positiveWeights = constants.length;
+        }
+        final int ordinal = constant.ordinal();
+        final int updatedPositiveWeights = positiveWeights
+                - (weights[ordinal] > 0 ? 1 : 0)
+                + (weight > 0 ? 1 : 0);
+
+        Verify.isTrue(updatedPositiveWeights > 0, "At least one weight must be positive");
+        weights[ordinal] = weight;
+        positiveWeights = updatedPositiveWeights;
+        aliasTable = null;
+        return this;
     }
 
     @Override
-    public Enum<?> generate(final RandomProvider random) {
-        try {
-            Method m = enumClass.getDeclaredMethod("values");
-            Enum<?>[] res = (Enum<?>[]) m.invoke(null);
-            return random.from(res);
-        } catch (Exception ex) {
-            throw new InstancioException("Error generating enum value for: " + enumClass.getName(), ex);
+    public E generate(final RandomProvider random) {
+        if (constants.length == 0) {
+            throw new InstancioException("Error generating enum value for: " + enumClass.getName()
+                    + ". Enum has no constants");
+        }
+        if (weights == null) {
+            return random.from(constants);
+        }
+        return constants[getAliasTable().next(random)];
+    }
+
+    /**
+     * Builds the alias table on first use, so that setting
+     * weights one constant at a time does not rebuild it.
+     */
+    private AliasTable getAliasTable() {
+        AliasTable table = aliasTable;
+        if (table == null) {
+            table = AliasTable.of(weights);
+            aliasTable = table;
         }
+        return table;
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.lang;
+
+import org.instancio.generator.GeneratorSpec;
+
+/**
+ * Generator spec for enum values.
+ *
+ * @param <E> enum type
+ */
+public interface EnumGeneratorSpec<E extends Enum<E>> extends GeneratorSpec<E> {
+
+    /**
+     * Sets the relative weight of the given constant. Constants that have not been
+     * assigned a weight have a weight of {@code 1}. A weight of {@code 0} means
+     * the constant will not be generated.
+     *
+     * @param constant enum constant
+     * @param weight   relative weight, must not be negative
+     * @return spec builder
+     */
+    EnumGeneratorSpec<E> weight(E constant, double weight);
+}
@@ -15,11 +15,13 @@
  */
 package org.instancio.generator.lang;
 
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class FloatGenerator extends AbstractRandomComparableNumberGeneratorSpec<Float> {
+public class FloatGenerator extends AbstractRandomComparableNumberGeneratorSpec<Float>
+        implements ArrayFillingGenerator<Float> {
 
     public FloatGenerator(final GeneratorContext context) {
         super(context,
@@ -32,4 +34,16 @@ public class FloatGenerator extends AbstractRandomComparableNumberGeneratorSpec<
     protected Float generateNonNullValue(final RandomProvider random) {
         return random.floatBetween(min, max);
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final float[] values = (float[]) array;
+        final float lower = min;
+        final float upper = max;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.floatBetween(lower, upper);
+            }
+        }
+    }
 }
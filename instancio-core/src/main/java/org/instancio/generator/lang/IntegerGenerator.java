@@ -15,11 +15,13 @@
  */
 package org.instancio.generator.lang;
 
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpec<Integer> {
+public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpec<Integer>
+        implements ArrayFillingGenerator<Integer> {
 
     public IntegerGenerator(final GeneratorContext context) {
         super(context,
@@ -33,4 +35,19 @@ public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpe
         return random.intBetween(min, max);
     }
 
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final int[] values = (int[]) array;
+        final int lower = min;
+        final int upper = max;
+        if (!nullableElements && !nullable && length == values.length) {
+            random.fill(values, lower, upper);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.intBetween(lower, upper);
+            }
+        }
+    }
 }
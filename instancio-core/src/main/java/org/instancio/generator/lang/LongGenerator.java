@@ -15,11 +15,13 @@
  */
 package org.instancio.generator.lang;
 
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<Long> {
+public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<Long>
+        implements ArrayFillingGenerator<Long> {
 
     public LongGenerator(final GeneratorContext context) {
         super(context,
@@ -32,4 +34,16 @@ public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<L
     protected Long generateNonNullValue(final RandomProvider random) {
         return random.longBetween(min, max);
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final long[] values = (long[]) array;
+        final long lower = min;
+        final long upper = max;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.longBetween(lower, upper);
+            }
+        }
+    }
 }
@@ -15,11 +15,13 @@
  */
 package org.instancio.generator.lang;
 
+import org.instancio.generator.ArrayFillingGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 
-public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<Short> {
+public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<Short>
+        implements ArrayFillingGenerator<Short> {
 
     public ShortGenerator(final GeneratorContext context) {
         super(context,
@@ -32,4 +34,16 @@ public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<
     protected Short generateNonNullValue(final RandomProvider random) {
         return random.shortBetween(min, max);
     }
+
+    @Override
+    public void fillPrimitiveArray(final Object array, final int length, final boolean nullableElements, final RandomProvider random) {
+        final short[] values = (short[]) array;
+        final short lower = min;
+        final short upper = max;
+        for (int i = 0; i < length; i++) {
+            if (!random.diceRoll(nullableElements) && !random.diceRoll(nullable)) {
+                values[i] = random.shortBetween(lower, upper);
+            }
+        }
+    }
 }
@@ -16,14 +16,20 @@
 package org.instancio.generator.lang;
 
 import org.instancio.generator.AbstractGenerator;
+import org.instancio.generator.BulkGenerator;
 import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.RandomAlgorithm;
 import org.instancio.internal.random.RandomProvider;
+import org.instancio.internal.random.RandomProviderImpl;
 import org.instancio.settings.Setting;
 import org.instancio.settings.Settings;
+import org.instancio.util.SeedUtil;
 import org.instancio.util.Verify;
 
-public class StringGenerator extends AbstractGenerator<String> implements StringGeneratorSpec {
+import java.util.Objects;
+
+public class StringGenerator extends AbstractGenerator<String> implements StringGeneratorSpec, BulkGenerator<String> {
 
     private static final String NEGATIVE_LENGTH = "Length must be negative: %s";
     private int minLength;
@@ -31,6 +37,9 @@ public class StringGenerator extends AbstractGenerator<String> implements String
     private boolean nullable;
     private boolean allowEmpty;
     private String prefix = "";
+    private Alphabet alphabet = Alphabet.UPPER_CASE;
+    private int poolSize;
+    private volatile Pool pool;
 
     public StringGenerator(final GeneratorContext context) {
         super(context);
@@ -40,11 +49,13 @@ public class StringGenerator extends AbstractGenerator<String> implements String
         this.maxLength = settings.get(Setting.STRING_MAX_LENGTH);
         this.nullable = settings.get(Setting.STRING_NULLABLE);
         this.allowEmpty = settings.get(Setting.STRING_ALLOW_EMPTY);
+        this.poolSize = Math.max(0, settings.get(Setting.STRING_POOL_SIZE));
     }
 
     @Override
     public StringGeneratorSpec prefix(final String prefix) {
-        this.prefix = prefix;
+        this.prefix = prefix == null ? "" : prefix;
+        this.pool = null;
         return this;
     }
 
@@ -65,6 +76,7 @@ public class StringGenerator extends AbstractGenerator<String> implements String
         Verify.isTrue(length >= 0, NEGATIVE_LENGTH, length);
         this.minLength = length;
         this.maxLength = length;
+        this.pool = null;
         return this;
     }
 
@@ -73,6 +85,7 @@ public class StringGenerator extends AbstractGenerator<String> implements String
         Verify.isTrue(length >= 0, NEGATIVE_LENGTH, length);
         this.minLength = length;
         this.maxLength = Math.max(length, maxLength);
+        this.pool = null;
         return this;
     }
 
@@ -81,6 +94,58 @@ public class StringGenerator extends AbstractGenerator<String> implements String
         Verify.isTrue(length >= 0, NEGATIVE_LENGTH, length);
         this.maxLength = length;
         this.minLength = Math.min(minLength, length);
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec upperCase() {
+        this.alphabet = Alphabet.UPPER_CASE;
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec lowerCase() {
+        this.alphabet = Alphabet.LOWER_CASE;
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec digits() {
+        this.alphabet = Alphabet.DIGITS;
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec hex() {
+        this.alphabet = Alphabet.HEX;
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec alphaNumeric() {
+        this.alphabet = Alphabet.ALPHANUMERIC;
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec chars(final String characters) {
+        Verify.isTrue(characters != null && !characters.isEmpty(), "Characters must not be empty");
+        this.alphabet = new Alphabet(characters);
+        this.pool = null;
+        return this;
+    }
+
+    @Override
+    public StringGeneratorSpec pool(final int size) {
+        Verify.isTrue(size > 0, "Pool size must be positive: %s", size);
+        this.poolSize = size;
+        this.pool = null;
         return this;
     }
 
@@ -92,7 +157,57 @@ public class StringGenerator extends AbstractGenerator<String> implements String
         if (random.diceRoll(allowEmpty)) {
             return "";
         }
-        return prefix + random.alphabetic(random.intBetween(minLength, maxLength + 1));
+        if (poolSize > 0) {
+            return getPool(random.getSeed())[random.nextInt(poolSize)];
+        }
+        return alphabet.generate(prefix, random.intBetween(minLength, maxLength + 1), random);
+    }
+
+    private String[] getPool(final int seed) {
+        Pool current = pool;
+        if (current == null || current.seed != seed) {
+            synchronized (this) {
+                current = pool;
+                if (current == null || current.seed != seed) {
+                    current = new Pool(seed, createPool(seed));
+                    pool = current;
+                }
+            }
+        }
+        return current.values;
+    }
+
+    /**
+     * Generates pooled values using a random provider seeded from the given seed
+     * and this generator's configuration rather than the given random provider, so that
+     * the pool does not depend on which object happened to be created first and can be
+     * shared by all threads. The provider uses the {@link Setting#RANDOM_ALGORITHM}.
+     * <p>
+     * The seed is that of the random provider passed to {@link #generate(RandomProvider)},
+     * so default generators shared between models create a pool for each seed.
+     */
+    private String[] createPool(final int seed) {
+        final int configHash = Objects.hash(prefix, minLength, maxLength, alphabet, poolSize);
+
+        final RandomProviderImpl poolRandom = new RandomProviderImpl(
+                seed, RandomAlgorithm.from(getContext().getSettings()));
+        poolRandom.reseed(SeedUtil.deriveSeed(seed, configHash));
+
+        final String[] values = new String[poolSize];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = alphabet.generate(prefix, poolRandom.intBetween(minLength, maxLength + 1), poolRandom);
+        }
+        return values;
+    }
+
+    private static final class Pool {
+        private final int seed;
+        private final String[] values;
+
+        private Pool(final int seed, final String[] values) {
+            this.seed = seed;
+            this.values = values;
+        }
     }
 
     @Override
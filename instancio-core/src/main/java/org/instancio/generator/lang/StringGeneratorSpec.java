@@ -67,4 +67,62 @@ public interface StringGeneratorSpec extends GeneratorSpec<String> {
      * @return spec builder
      */
     StringGeneratorSpec maxLength(int length);
+
+    /**
+     * Generates upper case strings from characters A-Z. This is the default.
+     *
+     * @return spec builder
+     */
+    StringGeneratorSpec upperCase();
+
+    /**
+     * Generates lower case strings from characters a-z.
+     *
+     * @return spec builder
+     */
+    StringGeneratorSpec lowerCase();
+
+    /**
+     * Generates strings from digits 0-9.
+     *
+     * @return spec builder
+     */
+    StringGeneratorSpec digits();
+
+    /**
+     * Generates upper case hexadecimal strings from characters 0-9 and A-F.
+     *
+     * @return spec builder
+     */
+    StringGeneratorSpec hex();
+
+    /**
+     * Generates strings from digits 0-9 and characters A-Z and a-z.
+     *
+     * @return spec builder
+     */
+    StringGeneratorSpec alphaNumeric();
+
+    /**
+     * Generates strings from the given characters.
+     * Each character is chosen with equal probability, therefore
+     * a character that occurs more than once is more likely to be chosen.
+     *
+     * @param characters to generate strings from
+     * @return spec builder
+     */
+    StringGeneratorSpec chars(String characters);
+
+    /**
+     * Draws strings from a pool of the given size instead of generating
+     * a new string each time. The pool is generated on first use,
+     * independently of the seed, and shared by all objects created using
+     * this spec. Pooling reduces the number of distinct string instances
+     * when generating large amounts of data.
+     *
+     * @param size number of strings in the pool
+     * @return spec builder
+     * @see org.instancio.settings.Setting#STRING_POOL_SIZE
+     */
+    StringGeneratorSpec pool(int size);
 }
@@ -18,6 +18,8 @@ package org.instancio.generator.util;
 import org.instancio.generator.AbstractGenerator;
 import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorResult;
+import org.instancio.internal.ContainerFactory;
 import org.instancio.internal.InstancioValidator;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
@@ -104,10 +106,38 @@ public class CollectionGenerator<T> extends AbstractGenerator<Collection<T>> imp
     }
 
     @Override
-    @SuppressWarnings({"unchecked", Sonar.RETURN_EMPTY_COLLECTION})
+    @SuppressWarnings(Sonar.RETURN_EMPTY_COLLECTION)
     public Collection<T> generate(final RandomProvider random) {
+        return random.diceRoll(nullable) ? null : createCollection(random, random.intBetween(minSize, maxSize + 1));
+    }
+
+    /**
+     * Draws the size before creating the collection, so that the collection
+     * can hold all of its elements without being resized.
+     */
+    @Override
+    public GeneratorResult generateResult(final RandomProvider random) {
+        if (random.diceRoll(nullable)) {
+            return GeneratorResult.create(null, getHints(0));
+        }
+        final int size = random.intBetween(minSize, maxSize + 1);
+        return GeneratorResult.create(createCollection(random, size), getHints(size));
+    }
+
+    /**
+     * Creates an empty collection that can hold the given number of elements
+     * in addition to the elements specified via {@link #with(Object[])}.
+     *
+     * @param random provider for random values
+     * @param size   number of elements that will be generated
+     * @return an empty collection, or {@code null} if it could not be created
+     */
+    @SuppressWarnings({"unchecked", Sonar.RETURN_EMPTY_COLLECTION})
+    protected Collection<T> createCollection(final RandomProvider random, final int size) {
         try {
-            return random.diceRoll(nullable) ? null : (Collection<T>) type.getDeclaredConstructor().newInstance();
+            final int withSize = withElements == null ? 0 : withElements.size();
+            final Object collection = ContainerFactory.create(type, (int) Math.min(Integer.MAX_VALUE, (long) size + withSize));
+            return (Collection<T>) (collection != null ? collection : type.getDeclaredConstructor().newInstance());
         } catch (Exception ex) {
             LOG.debug("Error creating instance of: {}", type, ex);
             return null;
@@ -116,8 +146,20 @@ public class CollectionGenerator<T> extends AbstractGenerator<Collection<T>> imp
 
     @Override
     public GeneratedHints getHints() {
+        final RandomProvider random = getContext().random();
+        Verify.state(random != null, "%s has no random provider; use getHints(RandomProvider) instead",
+                getClass().getSimpleName());
+        return getHints(random);
+    }
+
+    @Override
+    public GeneratedHints getHints(final RandomProvider random) {
+        return getHints(random.intBetween(minSize, maxSize + 1));
+    }
+
+    private GeneratedHints getHints(final int size) {
         return GeneratedHints.builder()
-                .dataStructureSize(getContext().random().intBetween(minSize, maxSize + 1))
+                .dataStructureSize(size)
                 .ignoreChildren(false)
                 .nullableResult(nullable)
                 .nullableElements(nullableElements)
@@ -34,8 +34,11 @@ public class CollectionGeneratorSpecImpl<T> extends CollectionGenerator<T> {
 
     @Override
     @SuppressWarnings("unchecked")
-    public Collection<T> generate(final RandomProvider random) {
+    protected Collection<T> createCollection(final RandomProvider random, final int size) {
         Verify.notNull(delegate, "null delegate");
+        if (delegate instanceof CollectionGenerator) {
+            return ((CollectionGenerator<T>) delegate).createCollection(random, size);
+        }
         return (Collection<T>) delegate.generate(random);
     }
 
@@ -16,6 +16,7 @@
 package org.instancio.generator.util;
 
 import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.ContainerFactory;
 import org.instancio.internal.random.RandomProvider;
 
 import java.util.Collection;
@@ -28,7 +29,8 @@ public class HashSetGenerator<T> extends CollectionGenerator<T> {
     }
 
     @Override
-    public Collection<T> generate(final RandomProvider random) {
-        return random.diceRoll(nullable) ? null : new HashSet<>();
+    @SuppressWarnings("unchecked")
+    protected Collection<T> createCollection(final RandomProvider random, final int size) {
+        return ContainerFactory.create(HashSet.class, size);
     }
 }
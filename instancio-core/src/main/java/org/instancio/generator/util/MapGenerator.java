@@ -18,6 +18,8 @@ package org.instancio.generator.util;
 import org.instancio.generator.AbstractGenerator;
 import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorResult;
+import org.instancio.internal.ContainerFactory;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.settings.Setting;
 import org.instancio.util.Sonar;
@@ -96,10 +98,36 @@ public class MapGenerator<K, V> extends AbstractGenerator<Map<K, V>> implements
     }
 
     @Override
-    @SuppressWarnings({"unchecked", Sonar.RETURN_EMPTY_COLLECTION})
+    @SuppressWarnings(Sonar.RETURN_EMPTY_COLLECTION)
     public Map<K, V> generate(final RandomProvider random) {
+        return random.diceRoll(nullable) ? null : createMap(random, random.intBetween(minSize, maxSize + 1));
+    }
+
+    /**
+     * Draws the size before creating the map, so that the map
+     * can hold all of its entries without being resized.
+     */
+    @Override
+    public GeneratorResult generateResult(final RandomProvider random) {
+        if (random.diceRoll(nullable)) {
+            return GeneratorResult.create(null, getHints(0));
+        }
+        final int size = random.intBetween(minSize, maxSize + 1);
+        return GeneratorResult.create(createMap(random, size), getHints(size));
+    }
+
+    /**
+     * Creates an empty map that can hold the given number of entries.
+     *
+     * @param random provider for random values
+     * @param size   number of entries that will be generated
+     * @return an empty map, or {@code null} if it could not be created
+     */
+    @SuppressWarnings({"unchecked", Sonar.RETURN_EMPTY_COLLECTION})
+    protected Map<K, V> createMap(final RandomProvider random, final int size) {
         try {
-            return random.diceRoll(nullable) ? null : (Map<K, V>) type.getDeclaredConstructor().newInstance();
+            final Object map = ContainerFactory.create(type, size);
+            return (Map<K, V>) (map != null ? map : type.getDeclaredConstructor().newInstance());
         } catch (Exception ex) {
             LOG.debug("Error creating instance of: {}", type, ex);
             return null;
@@ -108,8 +136,20 @@ public class MapGenerator<K, V> extends AbstractGenerator<Map<K, V>> implements
 
     @Override
     public GeneratedHints getHints() {
+        final RandomProvider random = getContext().random();
+        Verify.state(random != null, "%s has no random provider; use getHints(RandomProvider) instead",
+                getClass().getSimpleName());
+        return getHints(random);
+    }
+
+    @Override
+    public GeneratedHints getHints(final RandomProvider random) {
+        return getHints(random.intBetween(minSize, maxSize + 1));
+    }
+
+    private GeneratedHints getHints(final int size) {
         return GeneratedHints.builder()
-                .dataStructureSize(getContext().random().intBetween(minSize, maxSize + 1))
+                .dataStructureSize(size)
                 .ignoreChildren(false)
                 .nullableResult(nullable)
                 .nullableKeys(nullableKeys)
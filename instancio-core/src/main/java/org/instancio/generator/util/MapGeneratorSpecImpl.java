@@ -34,8 +34,11 @@ public class MapGeneratorSpecImpl<K, V> extends MapGenerator<K, V> {
 
     @Override
     @SuppressWarnings("unchecked")
-    public Map<K, V> generate(final RandomProvider random) {
+    protected Map<K, V> createMap(final RandomProvider random, final int size) {
         Verify.notNull(delegate, "null delegate");
+        if (delegate instanceof MapGenerator) {
+            return ((MapGenerator<K, V>) delegate).createMap(random, size);
+        }
         return (Map<K, V>) delegate.generate(random);
     }
 
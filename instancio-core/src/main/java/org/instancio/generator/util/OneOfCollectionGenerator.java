@@ -17,14 +17,18 @@ package org.instancio.generator.util;
 
 import org.instancio.generator.AbstractGenerator;
 import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.AliasTable;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.util.Verify;
 
 import java.util.Collection;
+import java.util.Map;
 
 public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements OneOfCollectionGeneratorSpec<T> {
 
-    private Collection<T> values;
+    // choices are copied into an array so that each selection takes constant time
+    private Object[] values;
+    private AliasTable aliasTable;
 
     public OneOfCollectionGenerator(final GeneratorContext context) {
         super(context);
@@ -32,13 +36,36 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T> implements
 
     @Override
     public OneOfCollectionGeneratorSpec<T> oneOf(final Collection<T> values) {
-        this.values = values;
+        this.values = values == null ? null : values.toArray();
+        this.aliasTable = null;
         return this;
     }
 
     @Override
+    public OneOfCollectionGeneratorSpec<T> oneOf(final Map<T, Double> weightedValues) {
+        Verify.notNull(weightedValues, "Map must not be null");
+        Verify.isTrue(!weightedValues.isEmpty(), "Map must have at least one element");
+
+        final Object[] choices = new Object[weightedValues.size()];
+        final double[] weights = new double[choices.length];
+        int i = 0;
+        for (Map.Entry<T, Double> entry : weightedValues.entrySet()) {
+            choices[i] = entry.getKey();
+            weights[i] = Verify.notNull(entry.getValue(), "Weight must not be null: %s", entry.getKey());
+            i++;
+        }
+
+        this.aliasTable = AliasTable.of(weights);
+        this.values = choices;
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public T generate(final RandomProvider random) {
-        Verify.notEmpty(values, "Array must have at least one element");
-        return random.from(values);
+        if (aliasTable != null) {
+            return (T) values[aliasTable.next(random)];
+        }
+        return (T) random.from(Verify.notEmpty(values, "Array must have at least one element"));
     }
 }
@@ -18,8 +18,28 @@ package org.instancio.generator.util;
 import org.instancio.generator.GeneratorSpec;
 
 import java.util.Collection;
+import java.util.Map;
 
 public interface OneOfCollectionGeneratorSpec<T> extends GeneratorSpec<T> {
 
+    /**
+     * Picks values from the given collection.
+     * <p>
+     * The collection is copied when this method is called, therefore
+     * modifications made to it afterwards do not affect the choices.
+     *
+     * @param values choices
+     * @return spec builder
+     */
     OneOfCollectionGeneratorSpec<T> oneOf(Collection<T> values);
+
+    /**
+     * Picks values from the keys of the given map, with probability
+     * proportional to the corresponding value. Like {@link #oneOf(Collection)},
+     * the entries are copied when this method is called.
+     *
+     * @param weightedValues choices mapped to their non-negative weights
+     * @return spec builder
+     */
+    OneOfCollectionGeneratorSpec<T> oneOf(Map<T, Double> weightedValues);
 }
@@ -29,7 +29,7 @@ public class TreeMapGenerator<K, V> extends MapGenerator<K, V> {
 
     @Override
     @SuppressWarnings("SortedCollectionWithNonComparableKeys")
-    public Map<K, V> generate(final RandomProvider random) {
-        return random.diceRoll(nullable) ? null : new TreeMap<>();
+    protected Map<K, V> createMap(final RandomProvider random, final int size) {
+        return new TreeMap<>();
     }
 }
@@ -29,7 +29,7 @@ public class TreeSetGenerator<T> extends CollectionGenerator<T> {
 
     @Override
     @SuppressWarnings("SortedCollectionWithNonComparableKeys")
-    public Collection<T> generate(final RandomProvider random) {
-        return random.diceRoll(nullable) ? null : new TreeSet<>();
+    protected Collection<T> createCollection(final RandomProvider random, final int size) {
+        return new TreeSet<>();
     }
 }
@@ -16,12 +16,21 @@
 package org.instancio.generator.util;
 
 import org.instancio.generator.AbstractGenerator;
+import org.instancio.generator.BulkGenerator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.random.RandomProvider;
 
 import java.util.UUID;
 
-public class UUIDGenerator extends AbstractGenerator<UUID> {
+/**
+ * Generates random (version 4) UUIDs from two random longs.
+ */
+public class UUIDGenerator extends AbstractGenerator<UUID> implements BulkGenerator<UUID> {
+
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
 
     public UUIDGenerator(final GeneratorContext context) {
         super(context);
@@ -29,11 +38,9 @@ public class UUIDGenerator extends AbstractGenerator<UUID> {
 
     @Override
     public UUID generate(final RandomProvider random) {
-        final byte[] randomBytes = new byte[16];
-        for (int i = 0; i < randomBytes.length; i++) {
-            randomBytes[i] = random.byteBetween(Byte.MIN_VALUE, Byte.MAX_VALUE);
-        }
-        return UUID.nameUUIDFromBytes(randomBytes);
+        final long mostSigBits = (random.nextLong() & VERSION_MASK) | VERSION_4;
+        final long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(mostSigBits, leastSigBits);
     }
 
 }
@@ -29,7 +29,7 @@ public class ConcurrentHashMapGenerator<K, V> extends MapGenerator<K, V> {
     }
 
     @Override
-    public Map<K, V> generate(final RandomProvider random) {
-        return random.diceRoll(nullable) ? null : new ConcurrentHashMap<>();
+    protected Map<K, V> createMap(final RandomProvider random, final int size) {
+        return new ConcurrentHashMap<>(size);
     }
 }
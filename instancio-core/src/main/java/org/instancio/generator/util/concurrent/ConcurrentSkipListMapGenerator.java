@@ -30,7 +30,7 @@ public class ConcurrentSkipListMapGenerator<K, V> extends MapGenerator<K, V> {
 
     @Override
     @SuppressWarnings("SortedCollectionWithNonComparableKeys")
-    public Map<K, V> generate(final RandomProvider random) {
-        return random.diceRoll(nullable) ? null : new ConcurrentSkipListMap<>();
+    protected Map<K, V> createMap(final RandomProvider random, final int size) {
+        return new ConcurrentSkipListMap<>();
     }
 }
@@ -1,58 +1,145 @@
 /*
- *  Copyright 2022 the original author or authors.
+ * Copyright 2022 the original author or authors.
  *
- *  Licensed under the Apache License, Version 2.0 (the "License");
- *  you may not use this file except in compliance with the License.
- *  You may obtain a copy of the License at
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
  *
- *       https://www.apache.org/licenses/LICENSE-2.0
+ *      https://www.apache.org/licenses/LICENSE-2.0
  *
- *  Unless required by applicable law or agreed to in writing, software
- *  distributed under the License is distributed on an "AS IS" BASIS,
- *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- *  See the License for the specific language governing permissions and
- *  limitations under the License.
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
  */
 package org.instancio.internal;
 
 import org.instancio.OnCompleteCallback;
 import org.instancio.generator.GeneratorResult;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.plan.CreationPlan;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import javax.annotation.Nullable;
 
+/**
+ * Invokes {@link OnCompleteCallback}s as soon as a value and all objects
+ * nested in it have been populated, rather than retaining all results
+ * until the root object is complete.
+ * <p>
+ * Each value that has a callback is tracked using a {@link PendingCallback},
+ * which counts the nested values that are still being created. Values without
+ * callbacks are counted towards the nearest enclosing pending callback, therefore
+ * the overhead is a single small object per value that has a callback, and none
+ * if the model does not have any callbacks.
+ */
 public class CallbackHandler {
 
-    private final ModelContext<?> context;
-    private final Map<Node, List<GeneratorResult>> callbackItems = new HashMap<>();
+    private final CreationPlan creationPlan;
+    private final boolean enabled;
 
-    public CallbackHandler(final ModelContext<?> context) {
-        this.context = context;
+    /**
+     * Creates a callback handler.
+     *
+     * @param creationPlan containing callbacks of each node
+     * @param enabled      whether the model has any callbacks
+     */
+    public CallbackHandler(final CreationPlan creationPlan, final boolean enabled) {
+        this.creationPlan = creationPlan;
+        this.enabled = enabled;
     }
 
-    public void addResult(final Node node, final GeneratorResult result) {
-        final OnCompleteCallback<?> callback = getCallbackHandler(node);
-        if (callback != null) {
-            callbackItems.computeIfAbsent(node, res -> new ArrayList<>()).add(result);
+    /**
+     * Starts tracking a value that has been generated for the given node.
+     *
+     * @param node      the value was generated for
+     * @param result    containing the value
+     * @param enclosing pending callback of the object the value is nested in
+     * @return pending callback that values nested in the given value should be counted towards
+     */
+    @Nullable
+    PendingCallback enter(final Node node, final GeneratorResult result, @Nullable final PendingCallback enclosing) {
+        if (!enabled) {
+            return null;
+        }
+        @SuppressWarnings("unchecked") final OnCompleteCallback<Object> callback =
+                (OnCompleteCallback<Object>) creationPlan.getPlan(node).getCallback();
+
+        if (callback == null) {
+            return enclosing;
+        }
+        if (enclosing != null) {
+            enclosing.pending++;
         }
+        return new PendingCallback(callback, result.getValue(), enclosing);
     }
 
-    public void invokeCallbacks() {
-        callbackItems.forEach((node, results) -> {
-            final OnCompleteCallback<Object> callback = getCallbackHandler(node);
-            results.forEach(result -> callback.onComplete(result.getValue()));
-        });
+    /**
+     * Finishes populating a value that was passed to {@link #enter(Node, GeneratorResult, PendingCallback)}.
+     * Values that were enqueued for creation may still be pending.
+     *
+     * @param pendingCallback returned by {@code enter()}
+     * @param enclosing       that was passed to {@code enter()}
+     * @param invoke          whether the callback should be invoked, for example,
+     *                        {@code false} if the value was discarded
+     */
+    void exit(@Nullable final PendingCallback pendingCallback,
+              @Nullable final PendingCallback enclosing,
+              final boolean invoke) {
+
+        if (pendingCallback != enclosing) {
+            pendingCallback.invoke = invoke;
+            release(pendingCallback);
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> OnCompleteCallback<T> getCallbackHandler(final Node node) {
-        OnCompleteCallback<?> result = context.getUserSuppliedFieldCallback(node.getField());
-        if (result == null) {
-            result = context.getUserSuppliedClassCallback(node.getTargetClass());
+    /**
+     * Records that a value has been enqueued for creation.
+     *
+     * @param enclosing pending callback the enqueued value is counted towards
+     */
+    void enqueued(@Nullable final PendingCallback enclosing) {
+        if (enclosing != null) {
+            enclosing.pending++;
+        }
+    }
+
+    /**
+     * Records that an enqueued value has been created and populated.
+     *
+     * @param enclosing pending callback the enqueued value was counted towards
+     */
+    void dequeued(@Nullable final PendingCallback enclosing) {
+        release(enclosing);
+    }
+
+    private static void release(@Nullable final PendingCallback pendingCallback) {
+        PendingCallback current = pendingCallback;
+        while (current != null && --current.pending == 0) {
+            if (current.invoke) {
+                current.callback.onComplete(current.value);
+            }
+            current = current.enclosing;
+        }
+    }
+
+    /**
+     * A callback waiting for a value's nested objects to be populated.
+     */
+    static final class PendingCallback {
+        private final OnCompleteCallback<Object> callback;
+        private final Object value;
+        private final PendingCallback enclosing;
+        // the value itself is pending until exit() is called
+        private int pending = 1;
+        private boolean invoke;
+
+        private PendingCallback(final OnCompleteCallback<Object> callback,
+                                final Object value,
+                                @Nullable final PendingCallback enclosing) {
+            this.callback = callback;
+            this.value = value;
+            this.enclosing = enclosing;
         }
-        return (OnCompleteCallback<T>) result;
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.IntFunction;
+
+/**
+ * Creates JDK collections and maps with enough capacity for a given
+ * number of elements, so that they do not need to be resized while
+ * being populated. Containers that do not support an initial capacity
+ * are created using their no-argument constructor.
+ * <p>
+ * Only the exact classes listed here are supported, since subclasses
+ * may not have the same constructors. For other types, the caller
+ * should fall back to reflective instantiation.
+ */
+public final class ContainerFactory {
+
+    private static final float HASH_LOAD_FACTOR = 0.75f;
+    private static final int MAX_HASH_CAPACITY = 1 << 30;
+    private static final Map<Class<?>, IntFunction<?>> FACTORIES = new HashMap<>();
+
+    static {
+        // collections
+        FACTORIES.put(ArrayList.class, ArrayList::new);
+        FACTORIES.put(ArrayDeque.class, ArrayDeque::new);
+        FACTORIES.put(Vector.class, Vector::new);
+        FACTORIES.put(HashSet.class, size -> new HashSet<>(hashCapacity(size)));
+        FACTORIES.put(LinkedHashSet.class, size -> new LinkedHashSet<>(hashCapacity(size)));
+        FACTORIES.put(PriorityQueue.class, size -> new PriorityQueue<>(Math.max(1, size)));
+        FACTORIES.put(LinkedList.class, size -> new LinkedList<>());
+        FACTORIES.put(Stack.class, size -> new Stack<>());
+        FACTORIES.put(TreeSet.class, size -> new TreeSet<>());
+        FACTORIES.put(ConcurrentLinkedDeque.class, size -> new ConcurrentLinkedDeque<>());
+        FACTORIES.put(ConcurrentLinkedQueue.class, size -> new ConcurrentLinkedQueue<>());
+        FACTORIES.put(ConcurrentSkipListSet.class, size -> new ConcurrentSkipListSet<>());
+        FACTORIES.put(CopyOnWriteArrayList.class, size -> new CopyOnWriteArrayList<>());
+        FACTORIES.put(CopyOnWriteArraySet.class, size -> new CopyOnWriteArraySet<>());
+
+        // maps
+        FACTORIES.put(HashMap.class, size -> new HashMap<>(hashCapacity(size)));
+        FACTORIES.put(LinkedHashMap.class, size -> new LinkedHashMap<>(hashCapacity(size)));
+        FACTORIES.put(WeakHashMap.class, size -> new WeakHashMap<>(hashCapacity(size)));
+        FACTORIES.put(Hashtable.class, size -> new Hashtable<>(hashCapacity(size)));
+        // these constructors take the expected number of elements
+        FACTORIES.put(IdentityHashMap.class, IdentityHashMap::new);
+        FACTORIES.put(ConcurrentHashMap.class, ConcurrentHashMap::new);
+        FACTORIES.put(TreeMap.class, size -> new TreeMap<>());
+        FACTORIES.put(ConcurrentSkipListMap.class, size -> new ConcurrentSkipListMap<>());
+    }
+
+    private ContainerFactory() {
+        // non-instantiable
+    }
+
+    /**
+     * Creates an empty container of the given type that can hold
+     * the expected number of elements without being resized.
+     *
+     * @param type         of container to create
+     * @param expectedSize number of elements that will be added
+     * @param <T>          container type
+     * @return an empty container, or {@code null} if the type is not supported
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> T create(final Class<T> type, final int expectedSize) {
+        final IntFunction<?> factory = FACTORIES.get(type);
+        return factory == null ? null : (T) factory.apply(Math.max(0, expectedSize));
+    }
+
+    /**
+     * Returns the capacity of a hash-based container that holds the given
+     * number of elements without exceeding the default load factor.
+     */
+    private static int hashCapacity(final int expectedSize) {
+        return (int) Math.min(MAX_HASH_CAPACITY, (long) (expectedSize / HASH_LOAD_FACTOR) + 1);
+    }
+}
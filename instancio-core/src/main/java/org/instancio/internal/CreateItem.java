@@ -15,18 +15,27 @@
  */
 package org.instancio.internal;
 
+import org.instancio.internal.CallbackHandler.PendingCallback;
 import org.instancio.internal.nodes.Node;
 
+import javax.annotation.Nullable;
 import java.util.StringJoiner;
 
 class CreateItem {
 
     private final Node node;
     private final Object owner;
+    private final InstancePath ownerPath;
+    private final PendingCallback pendingCallback;
 
-    CreateItem(final Node node, final Object owner) {
+    CreateItem(final Node node,
+               final Object owner,
+               @Nullable final InstancePath ownerPath,
+               @Nullable final PendingCallback pendingCallback) {
         this.node = node;
         this.owner = owner;
+        this.ownerPath = ownerPath;
+        this.pendingCallback = pendingCallback;
     }
 
     Node getNode() {
@@ -37,6 +46,24 @@ class CreateItem {
         return owner;
     }
 
+    /**
+     * Returns the path starting with this item's owner.
+     *
+     * @return owner path, or {@code null} if paths are not tracked
+     */
+    InstancePath getOwnerPath() {
+        return ownerPath;
+    }
+
+    /**
+     * Returns the pending callback that this item is counted towards.
+     *
+     * @return pending callback, or {@code null} if there is none
+     */
+    PendingCallback getPendingCallback() {
+        return pendingCallback;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", CreateItem.class.getSimpleName() + "[", "]")
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.nodes.Node;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tracks the number and estimated size of values generated for a root object
+ * against {@link Setting#MAX_NODES} and {@link Setting#MAX_ESTIMATED_BYTES}.
+ * <p>
+ * If neither limit is set, the budget is disabled and does not track anything.
+ * Otherwise, the number of values and bytes are also recorded per node,
+ * so that {@link #getReport()} can show where the budget was spent.
+ * The budget must be {@link #reset()} before creating each root object.
+ */
+final class GenerationBudget {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int REPORTED_NODES = 10;
+
+    private final int maxNodes;
+    private final long maxBytes;
+    private final boolean enabled;
+
+    private int nodes;
+    private long bytes;
+    private int skipped;
+    private boolean exhausted;
+
+    private Node[] nodesById = new Node[INITIAL_CAPACITY];
+    private int[] countsById = new int[INITIAL_CAPACITY];
+    private long[] bytesById = new long[INITIAL_CAPACITY];
+
+    GenerationBudget(final Settings settings) {
+        this.maxNodes = Math.max(0, settings.<Integer>get(Setting.MAX_NODES));
+        this.maxBytes = Math.max(0, settings.<Long>get(Setting.MAX_ESTIMATED_BYTES));
+        this.enabled = maxNodes > 0 || maxBytes > 0;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns {@code true} if a limit has been reached and no more values should be generated.
+     *
+     * @return whether the budget is exhausted
+     */
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Reduces the given container size to the number of elements the budget still allows.
+     * The size is limited by the number of remaining nodes, as well as the number
+     * of elements of the smallest possible size that fit into the remaining bytes.
+     *
+     * @param elementNode collection or array element node
+     * @param size        requested size
+     * @return size that fits the budget
+     */
+    int limitSize(final Node elementNode, final int size) {
+        return limit(size, 1, ObjectSizeEstimator.estimate(elementNode.getTargetClass()));
+    }
+
+    /**
+     * Reduces the given map size to the number of entries the budget still allows.
+     * Each entry is counted as two nodes, its key and its value.
+     *
+     * @param keyNode   map key node
+     * @param valueNode map value node
+     * @param size      requested size
+     * @return size that fits the budget
+     */
+    int limitMapSize(final Node keyNode, final Node valueNode, final int size) {
+        return limit(size, 2, ObjectSizeEstimator.estimate(keyNode.getTargetClass())
+                + ObjectSizeEstimator.estimate(valueNode.getTargetClass()));
+    }
+
+    private int limit(final int size, final int nodesPerElement, final long minBytesPerElement) {
+        if (!enabled) {
+            return size;
+        }
+        if (exhausted) {
+            return 0;
+        }
+        long result = size;
+        if (maxNodes > 0) {
+            result = Math.min(result, (maxNodes - nodes) / nodesPerElement);
+        }
+        if (maxBytes > 0 && minBytesPerElement > 0) {
+            result = Math.min(result, (maxBytes - bytes) / minBytesPerElement);
+        }
+        return (int) result;
+    }
+
+    /**
+     * Records a value generated for the given node.
+     *
+     * @param node  the value was generated for
+     * @param value generated value
+     */
+    void record(final Node node, final Object value) {
+        if (enabled) {
+            add(node, 1, ObjectSizeEstimator.estimate(value));
+        }
+    }
+
+    /**
+     * Records primitive elements that were generated in bulk for the given node.
+     * Their size is not charged, since it is included in the size of the array.
+     *
+     * @param elementNode the elements were generated for
+     * @param count       number of elements
+     */
+    void recordElements(final Node elementNode, final int count) {
+        if (enabled && count > 0) {
+            add(elementNode, count, count * ObjectSizeEstimator.estimate(elementNode.getTargetClass()));
+        }
+    }
+
+    /**
+     * Records elements that were generated in bulk for the given node.
+     * Each element is charged its own estimated size, as if it was
+     * recorded using {@link #record(Node, Object)}.
+     *
+     * @param elementNode the elements were generated for
+     * @param elements    generated elements, which may include {@code null} values
+     */
+    void recordElements(final Node elementNode, final Collection<?> elements) {
+        if (!enabled || elements.isEmpty()) {
+            return;
+        }
+        long size = 0;
+        for (Object element : elements) {
+            if (element != null) {
+                size += ObjectSizeEstimator.estimate(element);
+            }
+        }
+        add(elementNode, elements.size(), size);
+    }
+
+    /**
+     * Records that a value was not generated because
+     * it exceeds the maximum depth or the budget is exhausted.
+     */
+    void recordSkipped() {
+        if (enabled) {
+            skipped++;
+        }
+    }
+
+    void reset() {
+        if (!enabled) {
+            return;
+        }
+        nodes = 0;
+        bytes = 0;
+        skipped = 0;
+        exhausted = false;
+        Arrays.fill(countsById, 0);
+        Arrays.fill(bytesById, 0);
+    }
+
+    /**
+     * Returns a summary of the values generated since the last reset,
+     * listing the nodes that account for the largest estimated size.
+     *
+     * @return budget report
+     */
+    String getReport() {
+        final StringBuilder sb = new StringBuilder()
+                .append("Generated ").append(nodes).append(" values, estimated ").append(bytes).append(" bytes");
+        if (maxNodes > 0) {
+            sb.append(", max nodes: ").append(maxNodes);
+        }
+        if (maxBytes > 0) {
+            sb.append(", max estimated bytes: ").append(maxBytes);
+        }
+        sb.append(exhausted ? " (limit reached, " : " (").append(skipped).append(" values skipped)");
+
+        final List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < countsById.length; id++) {
+            if (countsById[id] > 0) {
+                ids.add(id);
+            }
+        }
+        ids.sort((a, b) -> Long.compare(bytesById[b], bytesById[a]));
+
+        for (int i = 0; i < Math.min(REPORTED_NODES, ids.size()); i++) {
+            final int id = ids.get(i);
+            sb.append(System.lineSeparator())
+                    .append(" - ").append(describe(nodesById[id]))
+                    .append(": ").append(countsById[id]).append(" values, ")
+                    .append(bytesById[id]).append(" bytes");
+        }
+        return sb.toString();
+    }
+
+    private void add(final Node node, final int count, final long size) {
+        nodes += count;
+        bytes += size;
+        exhausted = (maxNodes > 0 && nodes >= maxNodes) || (maxBytes > 0 && bytes >= maxBytes);
+
+        final int id = node.getId();
+        if (id >= countsById.length) {
+            final int capacity = Math.max(id + 1, countsById.length * 2);
+            nodesById = Arrays.copyOf(nodesById, capacity);
+            countsById = Arrays.copyOf(countsById, capacity);
+            bytesById = Arrays.copyOf(bytesById, capacity);
+        }
+        nodesById[id] = node;
+        countsById[id] += count;
+        bytesById[id] += size;
+    }
+
+    private static String describe(final Node node) {
+        final Field field = node.getField();
+        if (field != null) {
+            return field.getDeclaringClass().getSimpleName() + "." + field.getName();
+        }
+        final Node parent = node.getParent();
+        return parent == null
+                ? node.getTargetClass().getSimpleName()
+                : describe(parent) + " element " + node.getTargetClass().getSimpleName();
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.instancio.internal;
 
+import org.instancio.Generator;
+import org.instancio.generator.BulkGenerator;
+import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.GeneratorResolver;
 import org.instancio.generator.GeneratorResult;
@@ -25,8 +28,9 @@ import org.instancio.internal.handlers.MapNodeHandler;
 import org.instancio.internal.handlers.NodeHandler;
 import org.instancio.internal.handlers.UserSuppliedGeneratorHandler;
 import org.instancio.internal.handlers.UsingGeneratorResolverHandler;
-import org.instancio.internal.nodes.ClassNode;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.plan.CreationPlan;
+import org.instancio.internal.plan.NodePlan;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.internal.reflection.ImplementationResolver;
 import org.instancio.internal.reflection.InterfaceImplementationResolver;
@@ -37,77 +41,203 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.Optional;
 
 class GeneratorFacade {
     private static final Logger LOG = LoggerFactory.getLogger(GeneratorFacade.class);
+    private static final GeneratedHints BACK_REFERENCE_HINTS = GeneratedHints.builder().ignoreChildren(true).build();
 
-    private final AncestorTree ancestorTree = new AncestorTree();
     private final ImplementationResolver implementationResolver = new InterfaceImplementationResolver();
-    private final ModelContext<?> context;
+    private final CreationPlan creationPlan;
+    private final GenerationBudget budget;
     private final RandomProvider random;
+    private final GeneratorResolver generatorResolver;
     private final NodeHandler[] nodeHandlers;
 
-    public GeneratorFacade(final ModelContext<?> context, final CallbackHandler callbackHandler) {
-        this.context = context;
-        this.random = context.getRandomProvider();
+    public GeneratorFacade(final ModelContext<?> context,
+                           final CreationPlan creationPlan,
+                           final GenerationBudget budget,
+                           final RandomProvider random) {
+        this.creationPlan = creationPlan;
+        this.budget = budget;
+        this.random = random;
 
         final GeneratorContext generatorContext = new GeneratorContext(context.getSettings(), random);
-        final GeneratorResolver generatorResolver = new GeneratorResolver(generatorContext);
+        this.generatorResolver = GeneratorResolver.getShared(context.getSettings());
         final Instantiator instantiator = new Instantiator();
 
         this.nodeHandlers = new NodeHandler[]{
-                new UserSuppliedGeneratorHandler(context, generatorContext, generatorResolver, instantiator),
-                new ArrayNodeHandler(context, generatorResolver, callbackHandler),
-                new UsingGeneratorResolverHandler(context, generatorResolver),
-                new CollectionNodeHandler(context, instantiator, callbackHandler),
-                new MapNodeHandler(context, instantiator, callbackHandler),
-                new InstantiatingHandler(context, instantiator)
+                new UserSuppliedGeneratorHandler(context, creationPlan, generatorContext, generatorResolver, instantiator),
+                new ArrayNodeHandler(random, generatorResolver),
+                new UsingGeneratorResolverHandler(random, creationPlan, generatorResolver),
+                new CollectionNodeHandler(context, random, creationPlan, instantiator),
+                new MapNodeHandler(context, random, creationPlan, instantiator),
+                new InstantiatingHandler(creationPlan, instantiator)
         };
     }
 
-    private boolean isIgnored(final Node node) {
-        return context.isIgnored(node.getField())
-                || context.isIgnored(node.getTargetClass())
-                || (node.getField() != null && Modifier.isStatic(node.getField().getModifiers()));
-    }
-
     Optional<GeneratorResult> generateNodeValue(final Node node, @Nullable final Object owner) {
-        if (isIgnored(node)) {
+        final NodePlan plan = creationPlan.getPlan(node);
+        if (plan.isIgnored()) {
             return Optional.empty();
         }
 
-        if (owner != null) {
-            final Object ancestor = ancestorTree.getObjectAncestor(owner, node.getParent());
-            if (ancestor != null) {
-                LOG.debug("{} has a circular dependency to {}. Not setting field value.",
-                        owner.getClass().getSimpleName(), ancestor);
+        if (plan.isCyclic()) {
+            LOG.debug("{} has a circular dependency. Not setting field value.", node);
 
-                return Optional.of(GeneratorResult.nullResult());
-            }
+            return Optional.of(GeneratorResult.nullResult());
         }
 
-        if (shouldReturnNullForNullable(node)) {
+        if (plan.isBeyondMaxDepth() || budget.isExhausted()) {
+            budget.recordSkipped();
             return Optional.of(GeneratorResult.nullResult());
         }
 
-        Optional<GeneratorResult> generatorResult = Optional.empty();
-        for (NodeHandler handler : nodeHandlers) {
-            generatorResult = handler.getResult(node);
-            if (generatorResult.isPresent()) {
-                ancestorTree.setObjectAncestor(generatorResult.get().getValue(), new AncestorTree.AncestorTreeNode(owner, node.getParent()));
-                break;
+        if (random.diceRoll(plan.isNullable())) {
+            return Optional.of(GeneratorResult.nullResult());
+        }
+
+        final Optional<GeneratorResult> generatorResult = generateUsingHandlers(node, plan.getHandlerIndex());
+        if (generatorResult.isPresent()) {
+            final Object value = generatorResult.get().getValue();
+            if (value != null) {
+                budget.record(node, value);
             }
+            return generatorResult;
+        }
+        return resolveImplementationAndGenerate(plan.getEffectiveType(), node, owner);
+    }
+
+    /**
+     * Returns the object that should be assigned to the given node if the node
+     * is a back reference. The object is already being populated, therefore
+     * the result's children should not be created again.
+     *
+     * @param node      to resolve a back reference for
+     * @param ownerPath path starting with the node's owner, or {@code null} if paths are not tracked
+     * @return result containing the referenced object, or {@code null} if the node is not a back reference
+     */
+    @Nullable
+    GeneratorResult getBackReference(final Node node, @Nullable final InstancePath ownerPath) {
+        if (ownerPath == null) {
+            return null;
+        }
+        final NodePlan plan = creationPlan.getPlan(node);
+        if (plan.isIgnored() || plan.getBackReferenceDepth() == NodePlan.NO_BACK_REFERENCE) {
+            return null;
         }
+        return GeneratorResult.create(ownerPath.getAncestor(plan.getBackReferenceDepth()), BACK_REFERENCE_HINTS);
+    }
 
-        if (!generatorResult.isPresent()) {
-            final Class<?> effectiveType = context.getSubtypeMapping(node.getTargetClass());
-            generatorResult = resolveImplementationAndGenerate(effectiveType, node, owner);
+    /**
+     * Returns the number of elements that can be generated for a container
+     * without exceeding the maximum depth or the generation budget.
+     *
+     * @param elementNode collection or array element node
+     * @param size        requested number of elements
+     * @return number of elements to generate
+     */
+    int limitSize(final Node elementNode, final int size) {
+        if (creationPlan.getPlan(elementNode).isBeyondMaxDepth()) {
+            return 0;
+        }
+        return budget.limitSize(elementNode, size);
+    }
+
+    /**
+     * Returns the number of entries that can be generated for a map
+     * without exceeding the maximum depth or the generation budget.
+     *
+     * @param keyNode   map key node
+     * @param valueNode map value node
+     * @param size      requested number of entries
+     * @return number of entries to generate
+     */
+    int limitMapSize(final Node keyNode, final Node valueNode, final int size) {
+        if (creationPlan.getPlan(keyNode).isBeyondMaxDepth()) {
+            return 0;
         }
+        return budget.limitMapSize(keyNode, valueNode, size);
+    }
 
-        //return generatorResult.orElse(GeneratorResult.nullResult());
-        return generatorResult;
+    /**
+     * Records primitive array elements that were populated by a {@link BulkGenerator}.
+     *
+     * @param elementNode array element node
+     * @param count       number of elements
+     */
+    void recordBulkElements(final Node elementNode, final int count) {
+        budget.recordElements(elementNode, count);
+    }
+
+    /**
+     * Records elements that were added to a container by a {@link BulkGenerator}.
+     *
+     * @param elementNode array or collection element node
+     * @param elements    generated elements
+     */
+    void recordBulkElements(final Node elementNode, final Collection<?> elements) {
+        budget.recordElements(elementNode, elements);
+    }
+
+    /**
+     * Returns {@code true} if the generation budget is exhausted,
+     * in which case no further nodes should be enqueued.
+     *
+     * @return whether the budget is exhausted
+     */
+    boolean isBudgetExhausted() {
+        return budget.isExhausted();
+    }
+
+    /**
+     * Returns a generator that can populate an array or collection with elements
+     * of the given node in bulk. This is only possible if the element values would
+     * otherwise be produced by a built-in generator, and the user has not customised
+     * the elements in any way.
+     *
+     * @param elementNode array or collection element node
+     * @return bulk generator, or {@code null} if elements must be generated individually
+     */
+    @Nullable
+    BulkGenerator<?> getBulkGenerator(final Node elementNode) {
+        final NodePlan plan = creationPlan.getPlan(elementNode);
+        if (plan.isIgnored()
+                || plan.isNullable()
+                || plan.getUserSuppliedGenerator() != null
+                || plan.getCallback() != null
+                || plan.getEffectiveType() != elementNode.getTargetClass()) {
+            return null;
+        }
+
+        final Generator<?> generator = generatorResolver.get(elementNode.getTargetClass()).orElse(null);
+        return generator instanceof BulkGenerator ? (BulkGenerator<?>) generator : null;
+    }
+
+    /**
+     * Generates a value using the handler recorded in the node's plan.
+     * If the handler has not been resolved yet, handlers are tried in order
+     * and the first one that produces a result is recorded in the plan.
+     */
+    private Optional<GeneratorResult> generateUsingHandlers(final Node node, final int handlerIndex) {
+        if (handlerIndex == NodePlan.NO_HANDLER) {
+            return Optional.empty();
+        }
+        if (handlerIndex != NodePlan.UNRESOLVED_HANDLER) {
+            return nodeHandlers[handlerIndex].getResult(node);
+        }
+
+        for (int i = 0; i < nodeHandlers.length; i++) {
+            final Optional<GeneratorResult> generatorResult = nodeHandlers[i].getResult(node);
+            if (generatorResult.isPresent()) {
+                creationPlan.setHandlerIndex(node, i);
+                return generatorResult;
+            }
+        }
+
+        creationPlan.setHandlerIndex(node, NodePlan.NO_HANDLER);
+        return Optional.empty();
     }
 
     /**
@@ -125,17 +255,9 @@ class GeneratorFacade {
 
         final Optional<Class<?>> targetClass = implementationResolver.resolve(abstractType);
         if (targetClass.isPresent()) {
-            final Node implementorNode = new ClassNode(parentNode.getNodeContext(),
-                    targetClass.get(), parentNode.getField(), null, parentNode);
-
-            return generateNodeValue(implementorNode, owner);
+            return generateNodeValue(parentNode.getImplementorNode(targetClass.get()), owner);
         }
 
         return Optional.empty();
     }
-
-    private boolean shouldReturnNullForNullable(final Node node) {
-        final boolean precondition = context.isNullable(node.getField()) || context.isNullable(node.getTargetClass());
-        return random.diceRoll(precondition);
-    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import javax.annotation.Nullable;
+
+/**
+ * A chain of objects that a node's value is nested in, starting with its owner
+ * and ending with the root object. Paths share their ancestors, so extending
+ * a path takes constant time regardless of its length.
+ * <p>
+ * Paths are only tracked when back references are enabled.
+ *
+ * @see org.instancio.settings.Setting#BACK_REFERENCES
+ */
+final class InstancePath {
+
+    private final Object instance;
+    private final InstancePath parent;
+
+    InstancePath(final Object instance, @Nullable final InstancePath parent) {
+        this.instance = instance;
+        this.parent = parent;
+    }
+
+    /**
+     * Returns the object the given number of levels up this path,
+     * where {@code 0} is the first object in the path.
+     *
+     * @param depth number of levels
+     * @return ancestor object
+     */
+    Object getAncestor(final int depth) {
+        InstancePath path = this;
+        for (int i = 0; i < depth; i++) {
+            path = path.parent;
+        }
+        return path.instance;
+    }
+}
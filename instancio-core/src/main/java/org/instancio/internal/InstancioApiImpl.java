@@ -23,12 +23,30 @@ import org.instancio.Model;
 import org.instancio.OnCompleteCallback;
 import org.instancio.TypeTokenSupplier;
 import org.instancio.generator.GeneratorSpec;
+import org.instancio.internal.random.RandomProviderImpl;
 import org.instancio.settings.Settings;
+import org.instancio.util.SeedUtil;
+import org.instancio.util.Verify;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
 
 public class InstancioApiImpl<T> implements InstancioApi<T> {
 
@@ -119,6 +137,115 @@ public class InstancioApiImpl<T> implements InstancioApi<T> {
         return engine.createObject();
     }
 
+    @Override
+    public Stream<T> stream() {
+        final InstancioEngine engine = new InstancioEngine(createModel());
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                action.accept(engine.createObject());
+                return true;
+            }
+        }, false);
+    }
+
+    @Override
+    public List<T> createList(final int size) {
+        Verify.isTrue(size >= 0, "Size must not be negative: %s", size);
+        final InstancioEngine engine = new InstancioEngine(createModel());
+        final List<T> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(engine.createObject());
+        }
+        return results;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T[] createArray(final int size) {
+        Verify.isTrue(size >= 0, "Size must not be negative: %s", size);
+        final InternalModel<T> model = createModel();
+        final InstancioEngine engine = new InstancioEngine(model);
+        final T[] results = (T[]) Array.newInstance(getArrayComponentType(model.getModelContext().getRootClass()), size);
+        for (int i = 0; i < size; i++) {
+            results[i] = engine.createObject();
+        }
+        return results;
+    }
+
+    @Override
+    public Stream<T> parallelStream() {
+        final ElementFactory<T> factory = new ElementFactory<>(createModel());
+        return LongStream.range(0, Long.MAX_VALUE)
+                .parallel()
+                .mapToObj(factory::create);
+    }
+
+    @Override
+    public List<T> createList(final int size, final int parallelism) {
+        Verify.isTrue(size >= 0, "Size must not be negative: %s", size);
+        Verify.isTrue(parallelism > 0, "Parallelism must be positive: %s", parallelism);
+        final ElementFactory<T> factory = new ElementFactory<>(createModel());
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            // a parallel stream runs its tasks in the pool it was invoked from
+            return pool.submit(() -> IntStream.range(0, size)
+                    .parallel()
+                    .mapToObj(factory::create)
+                    .collect(toList())).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Creates elements of parallel streams and lists. Each element is created
+     * using a random source seeded from the element's index. Engines reset
+     * their state after creating an object, therefore idle workers are reused
+     * by whichever thread creates the next element. Workers are held by the
+     * factory rather than by the threads, so that they are released together
+     * with the stream or list instead of remaining on pooled threads.
+     */
+    private static final class ElementFactory<T> {
+        private final InternalModel<T> model;
+        private final int baseSeed;
+        private final Queue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+
+        ElementFactory(final InternalModel<T> model) {
+            this.model = model;
+            this.baseSeed = model.getModelContext().getRandomProvider().getSeed();
+        }
+
+        T create(final long index) {
+            Worker worker = idleWorkers.poll();
+            if (worker == null) {
+                worker = new Worker(model, model.getModelContext().newRandomProvider(baseSeed));
+            }
+            worker.random.reseed(SeedUtil.deriveSeed(baseSeed, index));
+            final T result = worker.engine.createObject();
+            // a worker whose engine failed is not reused
+            idleWorkers.offer(worker);
+            return result;
+        }
+
+        private static final class Worker {
+            private final RandomProviderImpl random;
+            private final InstancioEngine engine;
+
+            Worker(final InternalModel<?> model, final RandomProviderImpl random) {
+                this.random = random;
+                this.engine = new InstancioEngine(model, random);
+            }
+        }
+    }
+
+    private static Class<?> getArrayComponentType(final Class<?> rootClass) {
+        // primitives are created as wrappers; this resolves the wrapper class of a primitive
+        return rootClass.isPrimitive()
+                ? Array.get(Array.newInstance(rootClass, 1), 0).getClass()
+                : rootClass;
+    }
+
     private InternalModel<T> createModel() {
         return new InternalModel<>(modelContextBuilder.build());
     }
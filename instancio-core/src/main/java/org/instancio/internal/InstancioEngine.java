@@ -16,57 +16,110 @@
 package org.instancio.internal;
 
 import org.instancio.generator.GeneratorResult;
+import org.instancio.internal.CallbackHandler.PendingCallback;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.settings.Setting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Optional;
-import java.util.Queue;
 
 class InstancioEngine {
     private static final Logger LOG = LoggerFactory.getLogger(InstancioEngine.class);
 
     private final GeneratorFacade generatorFacade;
-    private final Queue<CreateItem> queue = new ArrayDeque<>();
+    private final Deque<CreateItem> queue = new ArrayDeque<>();
     private final ModelContext<?> context;
     private final Node rootNode;
     private final CallbackHandler callbackHandler;
+    private final GenerationBudget budget;
+    private final PopulatingNodeVisitor populatingNodeVisitor;
+    private final boolean depthFirst;
 
     InstancioEngine(InternalModel<?> model) {
+        this(model, model.getModelContext().getRandomProvider());
+    }
+
+    /**
+     * Creates an engine that uses the given random provider instead of the model's.
+     *
+     * @param model  to create objects from
+     * @param random provider to use for generating values
+     */
+    InstancioEngine(InternalModel<?> model, RandomProvider random) {
         this.context = model.getModelContext();
         this.rootNode = model.getRootNode();
-        this.callbackHandler = new CallbackHandler(context);
-        this.generatorFacade = new GeneratorFacade(context, callbackHandler);
+        this.depthFirst = Boolean.TRUE.equals(context.getSettings().get(Setting.DEPTH_FIRST));
+        this.callbackHandler = new CallbackHandler(model.getCreationPlan(), context.hasOnCompleteCallbacks());
+        this.budget = new GenerationBudget(context.getSettings());
+        this.generatorFacade = new GeneratorFacade(context, model.getCreationPlan(), budget, random);
+        this.populatingNodeVisitor = new PopulatingNodeVisitor(generatorFacade, random, queue, callbackHandler,
+                Boolean.TRUE.equals(context.getSettings().get(Setting.BACK_REFERENCES)));
     }
 
+    /**
+     * Creates an object. The engine can be used to create multiple objects,
+     * since per-object state is discarded once an object has been created.
+     * However, an engine must not be used by multiple threads concurrently.
+     *
+     * @param <T> type of object
+     * @return created object
+     */
     @SuppressWarnings("unchecked")
     <T> T createObject() {
-        final Optional<GeneratorResult> optResult = generatorFacade.generateNodeValue(rootNode, null);
-        if (!optResult.isPresent()) {
-            return null;
-        }
+        try {
+            final Optional<GeneratorResult> optResult = generatorFacade.generateNodeValue(rootNode, null);
+            if (!optResult.isPresent()) {
+                return null;
+            }
+
+            final GeneratorResult rootResult = optResult.get();
+            final PendingCallback rootCallback = callbackHandler.enter(rootNode, rootResult, null);
+            populatingNodeVisitor.populate(rootNode, null, null, rootResult, rootCallback);
+            callbackHandler.exit(rootCallback, null, true);
 
-        final GeneratorResult rootResult = optResult.get();
-        rootNode.accept(new PopulatingNodeVisitor(null, rootResult, generatorFacade, context, queue, callbackHandler));
-        callbackHandler.addResult(rootNode, rootResult);
+            while (!queue.isEmpty()) {
+                processNextItem(depthFirst ? queue.pollLast() : queue.pollFirst());
+            }
 
-        while (!queue.isEmpty()) {
-            processNextItem(queue.poll());
+            if (budget.isExhausted()) {
+                LOG.warn("Generation limit reached, some values were not populated. {}", budget.getReport());
+            } else if (budget.isEnabled() && LOG.isDebugEnabled()) {
+                LOG.debug(budget.getReport());
+            }
+
+            return (T) rootResult.getValue();
+        } finally {
+            reset();
         }
+    }
 
-        callbackHandler.invokeCallbacks();
-        return (T) rootResult.getValue();
+    private void reset() {
+        queue.clear();
+        budget.reset();
     }
 
     private void processNextItem(final CreateItem createItem) {
         LOG.trace("Creating: {}", createItem);
 
         final Node node = createItem.getNode();
-        final Optional<GeneratorResult> result = generatorFacade.generateNodeValue(node, createItem.getOwner());
-        if (result.isPresent()) {
-            node.accept(new PopulatingNodeVisitor(createItem.getOwner(), result.get(), generatorFacade, context, queue, callbackHandler));
-            callbackHandler.addResult(node, result.get());
+        final PendingCallback enclosing = createItem.getPendingCallback();
+        final GeneratorResult backReference = generatorFacade.getBackReference(node, createItem.getOwnerPath());
+
+        if (backReference != null) {
+            // the referenced object's callback is invoked once the object is complete
+            populatingNodeVisitor.populate(node, createItem.getOwner(), createItem.getOwnerPath(), backReference, enclosing);
+        } else {
+            final Optional<GeneratorResult> result = generatorFacade.generateNodeValue(node, createItem.getOwner());
+            if (result.isPresent()) {
+                final PendingCallback pendingCallback = callbackHandler.enter(node, result.get(), enclosing);
+                populatingNodeVisitor.populate(node, createItem.getOwner(), createItem.getOwnerPath(), result.get(), pendingCallback);
+                callbackHandler.exit(pendingCallback, enclosing, true);
+            }
         }
+        callbackHandler.dequeued(enclosing);
     }
 }
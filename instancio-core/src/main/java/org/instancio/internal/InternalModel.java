@@ -17,17 +17,19 @@ package org.instancio.internal;
 
 import org.instancio.Model;
 import org.instancio.internal.nodes.Node;
-import org.instancio.internal.nodes.NodeContext;
-import org.instancio.internal.nodes.NodeFactory;
+import org.instancio.internal.nodes.NodeCache;
+import org.instancio.internal.plan.CreationPlan;
 
 public class InternalModel<T> implements Model<T> {
 
     private final ModelContext<T> modelContext;
     private final Node rootNode;
+    private final CreationPlan creationPlan;
 
     public InternalModel(ModelContext<T> modelContext) {
         this.modelContext = modelContext;
         this.rootNode = createRootNode();
+        this.creationPlan = new CreationPlan(modelContext);
     }
 
     public ModelContext<T> getModelContext() {
@@ -38,9 +40,15 @@ public class InternalModel<T> implements Model<T> {
         return rootNode;
     }
 
+    public CreationPlan getCreationPlan() {
+        return creationPlan;
+    }
+
     private Node createRootNode() {
-        final NodeContext nodeContext = new NodeContext(modelContext.getRootTypeMap(), modelContext.getSubtypeMap());
-        final NodeFactory nodeFactory = new NodeFactory(nodeContext);
-        return nodeFactory.createRootNode(modelContext.getRootClass(), modelContext.getRootType());
+        return NodeCache.getInstance().getRootNode(
+                modelContext.getRootClass(),
+                modelContext.getRootType(),
+                modelContext.getRootTypeMap(),
+                modelContext.getSubtypeMap());
     }
 }
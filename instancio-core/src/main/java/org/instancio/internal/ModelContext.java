@@ -22,9 +22,9 @@ import org.instancio.OnCompleteCallback;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.generator.array.ArrayGenerator;
+import org.instancio.internal.random.RandomAlgorithm;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.internal.random.RandomProviderImpl;
-import org.instancio.settings.PropertiesLoader;
 import org.instancio.settings.Settings;
 import org.instancio.util.ObjectUtils;
 import org.instancio.util.SeedUtil;
@@ -101,14 +101,13 @@ public class ModelContext<T> {
                 ? Collections.emptyMap()
                 : Collections.unmodifiableMap(buildRootTypeMap(rootClass, builder.rootTypeParameters));
 
-        this.settings = Settings.defaults()
-                .merge(Settings.from(new PropertiesLoader().load("instancio.properties")))
+        this.settings = PropertiesSettings.get()
                 .merge(ThreadLocalSettings.getInstance().get())
                 .merge(builder.settings)
                 .lock();
 
         this.seed = builder.seed;
-        this.randomProvider = resolveRandomProvider(seed);
+        this.randomProvider = resolveRandomProvider(seed, RandomAlgorithm.from(settings));
 
         putAllCallbacks(builder.onCompleteCallbacks);
         putAllBuiltInGenerators(builder.generatorSpecBindings);
@@ -117,14 +116,15 @@ public class ModelContext<T> {
         putNullable(builder.nullableBindings);
     }
 
-    private static RandomProvider resolveRandomProvider(@Nullable final Integer userSuppliedSeed) {
+    private static RandomProvider resolveRandomProvider(@Nullable final Integer userSuppliedSeed,
+                                                        final RandomAlgorithm algorithm) {
         if (userSuppliedSeed != null) {
-            return new RandomProviderImpl(userSuppliedSeed);
+            return new RandomProviderImpl(userSuppliedSeed, algorithm);
         }
         // If running under JUnit extension, use the provider supplied by the extension
         return ObjectUtils.defaultIfNull(
                 ThreadLocalRandomProvider.getInstance().get(),
-                () -> new RandomProviderImpl(SeedUtil.randomSeed()));
+                () -> new RandomProviderImpl(SeedUtil.randomSeed(), algorithm));
     }
 
     private void putAllCallbacks(final Map<Binding, OnCompleteCallback<?>> onCompleteCallbacks) {
@@ -246,6 +246,10 @@ public class ModelContext<T> {
         return userSuppliedClassCallbacks.get(targetClass);
     }
 
+    public boolean hasOnCompleteCallbacks() {
+        return !onCompleteCallbacks.isEmpty();
+    }
+
     public Class<?> getSubtypeMapping(Class<?> superType) {
         return subtypeMap.getOrDefault(superType, superType);
     }
@@ -270,6 +274,17 @@ public class ModelContext<T> {
         return randomProvider;
     }
 
+    /**
+     * Creates a new random provider with the given seed
+     * using the algorithm specified by this context's settings.
+     *
+     * @param seed for the random provider
+     * @return a new random provider
+     */
+    public RandomProviderImpl newRandomProvider(final int seed) {
+        return new RandomProviderImpl(seed, RandomAlgorithm.from(settings));
+    }
+
     private static Map<TypeVariable<?>, Class<?>> buildRootTypeMap(
             final Class<?> rootClass,
             final List<Class<?>> rootTypeParameters) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Estimates the shallow size of objects, assuming a 64-bit JVM
+ * with compressed references and 8-byte object alignment.
+ * Estimates are meant for budgeting and are not exact.
+ */
+final class ObjectSizeEstimator {
+
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int ALIGNMENT = 8;
+
+    private static final ClassValue<Long> SHALLOW_SIZES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(final Class<?> klass) {
+            return computeShallowSize(klass);
+        }
+    };
+
+    private ObjectSizeEstimator() {
+        // non-instantiable
+    }
+
+    /**
+     * Estimates the size of the given object, including the contents of arrays
+     * and the characters of strings, but excluding other referenced objects.
+     *
+     * @param value to estimate
+     * @return estimated size in bytes
+     */
+    static long estimate(final Object value) {
+        final Class<?> klass = value.getClass();
+        if (klass.isArray()) {
+            return arraySize(Array.getLength(value), klass.getComponentType());
+        }
+        if (value instanceof String) {
+            // assumes compact Latin-1 strings
+            return SHALLOW_SIZES.get(String.class) + arraySize(((String) value).length(), byte.class);
+        }
+        return SHALLOW_SIZES.get(klass);
+    }
+
+    /**
+     * Estimates the smallest size of an instance of the given class,
+     * i.e. its shallow size, or the size of an empty string for strings.
+     * Primitives are estimated as zero since they are stored in their owner.
+     *
+     * @param klass to estimate
+     * @return estimated size in bytes
+     */
+    static long estimate(final Class<?> klass) {
+        if (klass.isPrimitive()) {
+            return 0;
+        }
+        if (klass == String.class) {
+            return SHALLOW_SIZES.get(String.class) + arraySize(0, byte.class);
+        }
+        return SHALLOW_SIZES.get(klass);
+    }
+
+    private static long arraySize(final int length, final Class<?> componentType) {
+        return align(ARRAY_HEADER + (long) length * fieldSize(componentType));
+    }
+
+    private static long computeShallowSize(final Class<?> klass) {
+        long size = OBJECT_HEADER;
+        for (Class<?> current = klass; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += fieldSize(field.getType());
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static int fieldSize(final Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    private static long align(final long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+}
@@ -15,20 +15,24 @@
  */
 package org.instancio.internal;
 
+import org.instancio.generator.ArrayFillingGenerator;
+import org.instancio.generator.BulkGenerator;
 import org.instancio.generator.GeneratorResult;
+import org.instancio.internal.CallbackHandler.PendingCallback;
 import org.instancio.internal.nodes.ArrayNode;
 import org.instancio.internal.nodes.ClassNode;
 import org.instancio.internal.nodes.CollectionNode;
 import org.instancio.internal.nodes.MapNode;
 import org.instancio.internal.nodes.Node;
 import org.instancio.internal.nodes.NodeVisitor;
+import org.instancio.internal.random.RandomProvider;
 import org.instancio.util.ArrayUtils;
-import org.instancio.util.ReflectionUtils;
 import org.instancio.util.Verify;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -36,29 +40,75 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 
-import static java.util.stream.Collectors.toList;
-
+/**
+ * Populates generated values. A single instance is reused for all nodes
+ * of an object being created; the node's owner and generator result
+ * are passed via {@link #populate(Node, Object, InstancePath, GeneratorResult, PendingCallback)}.
+ */
 public class PopulatingNodeVisitor implements NodeVisitor {
 
-    private final Object owner;
-    private final GeneratorResult generatorResult;
     private final GeneratorFacade generatorFacade;
-    private final ModelContext<?> context;
+    private final RandomProvider random;
     private final Queue<CreateItem> queue;
     private final CallbackHandler callbackHandler;
-
-    public PopulatingNodeVisitor(@Nullable final Object owner,
-                                 final GeneratorResult generatorResult,
-                                 final GeneratorFacade generatorFacade,
-                                 final ModelContext<?> context,
+    private final boolean trackInstancePaths;
+    private Object owner;
+    private InstancePath ownerPath;
+    private GeneratorResult generatorResult;
+    private PendingCallback pendingCallback;
+
+    /**
+     * Creates a visitor.
+     *
+     * @param generatorFacade    for generating node values
+     * @param random             provider for generating random values
+     * @param queue              for enqueuing child nodes to be created
+     * @param callbackHandler    for invoking callbacks once values are complete
+     * @param trackInstancePaths whether to record the objects that enqueued nodes
+     *                           are nested in, which is required for resolving back references
+     */
+    public PopulatingNodeVisitor(final GeneratorFacade generatorFacade,
+                                 final RandomProvider random,
                                  final Queue<CreateItem> queue,
-                                 final CallbackHandler callbackHandler) {
-        this.owner = owner;
-        this.generatorResult = generatorResult;
+                                 final CallbackHandler callbackHandler,
+                                 final boolean trackInstancePaths) {
         this.generatorFacade = generatorFacade;
-        this.context = context;
+        this.random = random;
         this.queue = queue;
         this.callbackHandler = callbackHandler;
+        this.trackInstancePaths = trackInstancePaths;
+    }
+
+    /**
+     * Populates the given node's value.
+     *
+     * @param node      to populate
+     * @param owner     of the node's value, or {@code null} if the node is the root node
+     * @param ownerPath path starting with the owner, or {@code null} if paths are not tracked
+     * @param result    containing the node's value
+     * @param callback  pending callback that values nested in the node's value are counted towards
+     */
+    public void populate(final Node node,
+                         @Nullable final Object owner,
+                         @Nullable final InstancePath ownerPath,
+                         final GeneratorResult result,
+                         @Nullable final PendingCallback callback) {
+        final Object previousOwner = this.owner;
+        final InstancePath previousOwnerPath = this.ownerPath;
+        final GeneratorResult previousResult = this.generatorResult;
+        final PendingCallback previousCallback = this.pendingCallback;
+        this.owner = owner;
+        this.ownerPath = ownerPath;
+        this.generatorResult = result;
+        this.pendingCallback = callback;
+        try {
+            node.accept(this);
+        } finally {
+            this.owner = previousOwner;
+            this.ownerPath = previousOwnerPath;
+            this.generatorResult = previousResult;
+            this.pendingCallback = previousCallback;
+        }
     }
 
     @Override
@@ -66,7 +116,7 @@ public class PopulatingNodeVisitor implements NodeVisitor {
         final Field field = node.getField();
         if (field == null) {
             if (owner == null) { // i.e. root node
-                enqueueChildrenOf(node, generatorResult, queue);
+                enqueueChildrenOf(node, generatorResult, ownerPath, pendingCallback);
             }
             return;
         }
@@ -74,10 +124,10 @@ public class PopulatingNodeVisitor implements NodeVisitor {
         Verify.notNull(owner, "null owner for node: %s", node);
 
         if (generatorResult.getValue() != null) {
-            ReflectionUtils.setField(owner, field, generatorResult.getValue());
-            enqueueChildrenOf(node, generatorResult, queue);
+            node.setFieldValue(owner, generatorResult.getValue());
+            enqueueChildrenOf(node, generatorResult, ownerPath, pendingCallback);
         } else if (!field.getType().isPrimitive()) {
-            ReflectionUtils.setField(owner, field, null);
+            node.setFieldValue(owner, null);
         }
     }
 
@@ -91,32 +141,19 @@ public class PopulatingNodeVisitor implements NodeVisitor {
         final Node elementNode = collectionNode.getElementNode();
 
         if (collectionNode.getField() != null) {
-            ReflectionUtils.setField(owner, collectionNode.getField(), collectionObj);
+            collectionNode.setFieldValue(owner, collectionObj);
         }
 
         final boolean nullableElement = generatorResult.getHints().nullableElements();
-
-        for (int i = 0; i < generatorResult.getHints().getDataStructureSize(); i++) {
-            final Optional<GeneratorResult> optResult = generatorFacade.generateNodeValue(elementNode, collectionObj);
-            if (!optResult.isPresent()) {
-                continue;
-            }
-
-            GeneratorResult elementResult = optResult.get();
-            final Object elementValue;
-
-            if (context.getRandomProvider().diceRoll(nullableElement)) {
-                elementValue = null;
-            } else {
-                elementValue = elementResult.getValue();
-                elementNode.accept(new PopulatingNodeVisitor(collectionObj, elementResult, generatorFacade, context, queue, callbackHandler));
-                enqueueChildrenOf(elementNode, elementResult, queue);
-            }
-
-            if (elementValue != null || nullableElement) {
-                collectionObj.add(elementValue);
-                callbackHandler.addResult(elementNode, elementResult);
-            }
+        final int size = generatorFacade.limitSize(elementNode, generatorResult.getHints().getDataStructureSize());
+        final BulkGenerator<?> bulkGenerator = generatorFacade.getBulkGenerator(elementNode);
+
+        if (bulkGenerator == null) {
+            populateCollectionElements(collectionObj, elementNode, size, nullableElement);
+        } else {
+            bulkGenerator.addElements(collectionObj, size, nullableElement, random);
+            // the collection only contains the generated elements at this point
+            generatorFacade.recordBulkElements(elementNode, collectionObj);
         }
 
         if (!generatorResult.getHints().getWithElements().isEmpty()) {
@@ -138,25 +175,31 @@ public class PopulatingNodeVisitor implements NodeVisitor {
         final Node valueNode = mapNode.getValueNode();
 
         if (mapNode.getField() != null) {
-            ReflectionUtils.setField(owner, mapNode.getField(), mapObj);
+            mapNode.setFieldValue(owner, mapObj);
         }
 
+        final InstancePath mapPath = getPath(mapObj);
         final boolean nullableKey = generatorResult.getHints().nullableMapKeys();
         final boolean nullableValue = generatorResult.getHints().nullableMapValues();
 
-        for (int i = 0; i < generatorResult.getHints().getDataStructureSize(); i++) {
+        final int size = generatorFacade.limitMapSize(keyNode, valueNode, generatorResult.getHints().getDataStructureSize());
+
+        for (int i = 0; i < size; i++) {
             final Object mapKey;
 
             GeneratorResult keyResult = null;
             GeneratorResult valueResult = null;
+            PendingCallback keyCallback = pendingCallback;
+            PendingCallback valueCallback = pendingCallback;
 
-            if (context.getRandomProvider().diceRoll(nullableKey)) {
+            if (random.diceRoll(nullableKey)) {
                 mapKey = null;
             } else {
                 final Optional<GeneratorResult> keyResultOpt = generatorFacade.generateNodeValue(keyNode, mapObj);
                 if (keyResultOpt.isPresent()) {
                     keyResult = keyResultOpt.get();
-                    enqueueChildrenOf(keyNode, keyResult, queue);
+                    keyCallback = callbackHandler.enter(keyNode, keyResult, pendingCallback);
+                    enqueueChildrenOf(keyNode, keyResult, mapPath, keyCallback);
                     mapKey = keyResult.getValue();
                 } else {
                     mapKey = null;
@@ -164,29 +207,27 @@ public class PopulatingNodeVisitor implements NodeVisitor {
             }
 
             final Object mapValue;
-            if (context.getRandomProvider().diceRoll(nullableValue)) {
+            if (random.diceRoll(nullableValue)) {
                 mapValue = null;
             } else {
                 final Optional<GeneratorResult> valueResultOpt = generatorFacade.generateNodeValue(valueNode, mapObj);
                 if (valueResultOpt.isPresent()) {
                     valueResult = valueResultOpt.get();
-                    enqueueChildrenOf(valueNode, valueResult, queue);
+                    valueCallback = callbackHandler.enter(valueNode, valueResult, pendingCallback);
+                    enqueueChildrenOf(valueNode, valueResult, mapPath, valueCallback);
                     mapValue = valueResult.getValue();
-                    valueNode.accept(new PopulatingNodeVisitor(mapObj, valueResult, generatorFacade, context, queue, callbackHandler));
+                    populate(valueNode, mapObj, mapPath, valueResult, valueCallback);
                 } else {
                     mapValue = null;
                 }
             }
 
-            if ((mapKey != null || nullableKey) && (mapValue != null || nullableValue)) {
+            final boolean put = (mapKey != null || nullableKey) && (mapValue != null || nullableValue);
+            if (put) {
                 mapObj.put(mapKey, mapValue);
-                if (mapKey != null) {
-                    callbackHandler.addResult(keyNode, keyResult);
-                }
-                if (mapValue != null) {
-                    callbackHandler.addResult(valueNode, valueResult);
-                }
             }
+            callbackHandler.exit(keyCallback, pendingCallback, put && mapKey != null);
+            callbackHandler.exit(valueCallback, pendingCallback, put && mapValue != null);
         }
     }
 
@@ -201,15 +242,67 @@ public class PopulatingNodeVisitor implements NodeVisitor {
 
         // Field can be null when array is an element of a collection
         if (arrayNode.getField() != null) {
-            ReflectionUtils.setField(owner, arrayNode.getField(), arrayObj);
+            arrayNode.setFieldValue(owner, arrayObj);
         }
 
         final List<?> withElements = generatorResult.getHints().getWithElements();
+        final int length = Array.getLength(arrayObj) - withElements.size();
+        final boolean isNullableElement = generatorResult.getHints().nullableElements();
+        final int limitedLength = generatorFacade.limitSize(elementNode, length);
+        final BulkGenerator<?> bulkGenerator = generatorFacade.getBulkGenerator(elementNode);
+
+        if (bulkGenerator != null && arrayObj instanceof Object[]) {
+            bulkGenerator.fillArray((Object[]) arrayObj, limitedLength, isNullableElement, random);
+            generatorFacade.recordBulkElements(elementNode, Arrays.asList((Object[]) arrayObj).subList(0, limitedLength));
+        } else if (bulkGenerator instanceof ArrayFillingGenerator) {
+            ((ArrayFillingGenerator<?>) bulkGenerator).fillPrimitiveArray(arrayObj, limitedLength, isNullableElement, random);
+            generatorFacade.recordBulkElements(elementNode, limitedLength);
+        } else {
+            populateArrayElements(arrayObj, elementNode, limitedLength, isNullableElement);
+        }
 
-        int index = 0;
-        for (int len = Array.getLength(arrayObj) - withElements.size(); index < len; index++) {
-            final boolean isNullableElement = generatorResult.getHints().nullableElements();
-            if (context.getRandomProvider().diceRoll(isNullableElement)) {
+        if (!withElements.isEmpty()) {
+            for (int j = 0; j < withElements.size(); j++) {
+                Array.set(arrayObj, j + length, withElements.get(j));
+            }
+            ArrayUtils.shuffle(arrayObj, random);
+        }
+    }
+
+    private void populateCollectionElements(final Collection<Object> collectionObj, final Node elementNode,
+                                            final int size, final boolean nullableElement) {
+        final InstancePath collectionPath = getPath(collectionObj);
+        for (int i = 0; i < size; i++) {
+            final Optional<GeneratorResult> optResult = generatorFacade.generateNodeValue(elementNode, collectionObj);
+            if (!optResult.isPresent()) {
+                continue;
+            }
+
+            GeneratorResult elementResult = optResult.get();
+            final PendingCallback elementCallback = callbackHandler.enter(elementNode, elementResult, pendingCallback);
+            final Object elementValue;
+
+            if (random.diceRoll(nullableElement)) {
+                elementValue = null;
+            } else {
+                elementValue = elementResult.getValue();
+                populate(elementNode, collectionObj, collectionPath, elementResult, elementCallback);
+                enqueueChildrenOf(elementNode, elementResult, collectionPath, elementCallback);
+            }
+
+            final boolean added = elementValue != null || nullableElement;
+            if (added) {
+                collectionObj.add(elementValue);
+            }
+            callbackHandler.exit(elementCallback, pendingCallback, added);
+        }
+    }
+
+    private void populateArrayElements(final Object arrayObj, final Node elementNode,
+                                       final int length, final boolean isNullableElement) {
+        final InstancePath arrayPath = getPath(arrayObj);
+        for (int index = 0; index < length; index++) {
+            if (random.diceRoll(isNullableElement)) {
                 continue;
             }
 
@@ -218,25 +311,44 @@ public class PopulatingNodeVisitor implements NodeVisitor {
                 final GeneratorResult elementResult = optResult.get();
                 final Object elementValue = elementResult.getValue();
                 Array.set(arrayObj, index, elementValue);
-                enqueueChildrenOf(elementNode, elementResult, queue);
-                callbackHandler.addResult(elementNode, elementResult);
+                final PendingCallback elementCallback = callbackHandler.enter(elementNode, elementResult, pendingCallback);
+                enqueueChildrenOf(elementNode, elementResult, arrayPath, elementCallback);
+                callbackHandler.exit(elementCallback, pendingCallback, true);
             }
         }
+    }
 
-        if (!withElements.isEmpty()) {
-            for (int j = 0; j < withElements.size(); j++) {
-                Array.set(arrayObj, j + index, withElements.get(j));
-            }
-            ArrayUtils.shuffle(arrayObj, context.getRandomProvider());
-        }
+    /**
+     * Returns a path starting with the given value of the node being populated.
+     */
+    @Nullable
+    private InstancePath getPath(final Object value) {
+        return trackInstancePaths ? new InstancePath(value, ownerPath) : null;
     }
 
-    private static void enqueueChildrenOf(final Node node, final GeneratorResult result, final Queue<CreateItem> queue) {
-        if (!result.ignoreChildren()) {
-            final Object owner = result.getValue();
-            queue.addAll(node.getChildren().stream()
-                    .map(it -> new CreateItem(it, owner))
-                    .collect(toList()));
+    /**
+     * Enqueues the children of the given node for creation.
+     *
+     * @param node           whose children to enqueue
+     * @param result         containing the children's owner
+     * @param valueOwnerPath path starting with the owner of the result's value
+     * @param callback       pending callback that the children are counted towards
+     */
+    private void enqueueChildrenOf(final Node node, final GeneratorResult result,
+                                   @Nullable final InstancePath valueOwnerPath,
+                                   @Nullable final PendingCallback callback) {
+        if (result.ignoreChildren() || generatorFacade.isBudgetExhausted()) {
+            return;
+        }
+        final List<Node> children = node.getChildren();
+        if (children.isEmpty()) {
+            return;
+        }
+        final Object owner = result.getValue();
+        final InstancePath path = trackInstancePaths ? new InstancePath(owner, valueOwnerPath) : null;
+        for (int i = 0; i < children.size(); i++) {
+            callbackHandler.enqueued(callback);
+            queue.add(new CreateItem(children.get(i), owner, path, callback));
         }
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.settings.PropertiesLoader;
+import org.instancio.settings.Settings;
+
+/**
+ * Holds default settings merged with settings from {@value #PROPERTIES_FILE}.
+ * <p>
+ * The properties file is loaded once, on first access, and the result is cached
+ * as locked settings. Use {@link #reload()} to discard the cached settings,
+ * for example, if the properties file was modified.
+ */
+public final class PropertiesSettings {
+
+    static final String PROPERTIES_FILE = "instancio.properties";
+
+    private static volatile Settings settings;
+
+    private PropertiesSettings() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns locked settings containing defaults overridden by the properties file.
+     *
+     * @return cached settings
+     */
+    public static Settings get() {
+        Settings result = settings;
+        if (result == null) {
+            synchronized (PropertiesSettings.class) {
+                result = settings;
+                if (result == null) {
+                    result = Settings.defaults()
+                            .merge(Settings.from(new PropertiesLoader().load(PROPERTIES_FILE)))
+                            .lock();
+                    settings = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Discards cached settings. The properties file will be reloaded on next access.
+     */
+    public static synchronized void reload() {
+        settings = null;
+    }
+}
@@ -18,10 +18,9 @@ package org.instancio.internal.handlers;
 import org.instancio.Generator;
 import org.instancio.generator.GeneratorResolver;
 import org.instancio.generator.GeneratorResult;
-import org.instancio.internal.CallbackHandler;
-import org.instancio.internal.ModelContext;
 import org.instancio.internal.nodes.ArrayNode;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.random.RandomProvider;
 import org.instancio.util.Verify;
 
 import java.util.Optional;
@@ -29,13 +28,11 @@ import java.util.Optional;
 public class ArrayNodeHandler implements NodeHandler {
 
     private final GeneratorResolver generatorResolver;
-    private final CallbackHandler callbackHandler;
-    private final ModelContext<?> context;
+    private final RandomProvider random;
 
-    public ArrayNodeHandler(final ModelContext<?> context, final GeneratorResolver generatorResolver, final CallbackHandler callbackHandler) {
-        this.context = context;
+    public ArrayNodeHandler(final RandomProvider random, final GeneratorResolver generatorResolver) {
+        this.random = random;
         this.generatorResolver = generatorResolver;
-        this.callbackHandler = callbackHandler;
     }
 
     @Override
@@ -45,9 +42,7 @@ public class ArrayNodeHandler implements NodeHandler {
             final Generator<?> generator = generatorResolver.get(node.getTargetClass()).orElseThrow(
                     () -> new IllegalStateException("Unable to get array generator for node: " + node));
 
-            final Object arrayObject = generator.generate(context.getRandomProvider());
-            final GeneratorResult result = GeneratorResult.create(arrayObject, generator.getHints());
-            callbackHandler.addResult(node, result);
+            final GeneratorResult result = GeneratorResult.fromGenerator(generator, random);
             return Optional.of(result);
         }
         return Optional.empty();
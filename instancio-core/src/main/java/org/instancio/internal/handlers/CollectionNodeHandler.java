@@ -17,10 +17,11 @@ package org.instancio.internal.handlers;
 
 import org.instancio.generator.GeneratedHints;
 import org.instancio.generator.GeneratorResult;
-import org.instancio.internal.CallbackHandler;
+import org.instancio.internal.ContainerFactory;
 import org.instancio.internal.ModelContext;
 import org.instancio.internal.nodes.CollectionNode;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.plan.CreationPlan;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.internal.reflection.instantiation.Instantiator;
 import org.instancio.settings.Setting;
@@ -33,30 +34,39 @@ import java.util.Optional;
 public class CollectionNodeHandler implements NodeHandler {
 
     private final ModelContext<?> context;
+    private final RandomProvider random;
+    private final CreationPlan creationPlan;
     private final Instantiator instantiator;
-    private final CallbackHandler callbackHandler;
 
-    public CollectionNodeHandler(final ModelContext<?> context, final Instantiator instantiator, final CallbackHandler callbackHandler) {
+    public CollectionNodeHandler(final ModelContext<?> context,
+                          final RandomProvider random,
+                          final CreationPlan creationPlan,
+                          final Instantiator instantiator) {
         this.context = context;
+        this.random = random;
+        this.creationPlan = creationPlan;
         this.instantiator = instantiator;
-        this.callbackHandler = callbackHandler;
     }
 
     @Override
     public Optional<GeneratorResult> getResult(final Node node) {
         if (node instanceof CollectionNode) {
             Verify.isTrue(Collection.class.isAssignableFrom(node.getTargetClass()), "Expected a collection type: %s", node.getTargetClass());
-            final Class<?> effectiveType = context.getSubtypeMapping(node.getTargetClass());
-            final GeneratedHints hints = GeneratedHints.builder().dataStructureSize(randomSize()).build();
-            final GeneratorResult result = GeneratorResult.create(instantiator.instantiate(effectiveType), hints);
-            callbackHandler.addResult(node, result);
+            final Class<?> effectiveType = creationPlan.getPlan(node).getEffectiveType();
+            final int size = randomSize();
+            final GeneratedHints hints = GeneratedHints.builder().dataStructureSize(size).build();
+            final GeneratorResult result = GeneratorResult.create(instantiate(effectiveType, size), hints);
             return Optional.of(result);
         }
         return Optional.empty();
     }
 
+    private Object instantiate(final Class<?> type, final int size) {
+        final Object collection = ContainerFactory.create(type, size);
+        return collection != null ? collection : instantiator.instantiate(type);
+    }
+
     private int randomSize() {
-        final RandomProvider random = context.getRandomProvider();
         final Settings settings = context.getSettings();
         return random.intBetween(settings.get(Setting.COLLECTION_MIN_SIZE), settings.get(Setting.COLLECTION_MAX_SIZE));
     }
@@ -16,8 +16,8 @@
 package org.instancio.internal.handlers;
 
 import org.instancio.generator.GeneratorResult;
-import org.instancio.internal.ModelContext;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.plan.CreationPlan;
 import org.instancio.internal.reflection.instantiation.Instantiator;
 import org.instancio.util.ReflectionUtils;
 
@@ -25,17 +25,17 @@ import java.util.Optional;
 
 public class InstantiatingHandler implements NodeHandler {
 
-    private final ModelContext<?> context;
+    private final CreationPlan creationPlan;
     private final Instantiator instantiator;
 
-    public InstantiatingHandler(final ModelContext<?> context, final Instantiator instantiator) {
-        this.context = context;
+    public InstantiatingHandler(final CreationPlan creationPlan, final Instantiator instantiator) {
+        this.creationPlan = creationPlan;
         this.instantiator = instantiator;
     }
 
     @Override
     public Optional<GeneratorResult> getResult(final Node node) {
-        final Class<?> effectiveType = context.getSubtypeMapping(node.getTargetClass());
+        final Class<?> effectiveType = creationPlan.getPlan(node).getEffectiveType();
         if (ReflectionUtils.isConcrete(effectiveType)) {
             final GeneratorResult result = GeneratorResult.create(instantiator.instantiate(effectiveType));
             return Optional.of(result);
@@ -22,6 +22,7 @@ import org.instancio.generator.GeneratorResult;
 import org.instancio.generator.misc.InstantiatingGenerator;
 import org.instancio.internal.ModelContext;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.plan.CreationPlan;
 import org.instancio.internal.reflection.instantiation.Instantiator;
 
 import java.util.Optional;
@@ -29,15 +30,18 @@ import java.util.Optional;
 public class UserSuppliedGeneratorHandler implements NodeHandler {
 
     private final ModelContext<?> modelContext;
+    private final CreationPlan creationPlan;
     private final GeneratorContext generatorContext;
     private final GeneratorResolver generatorResolver;
     private final Instantiator instantiator;
 
     public UserSuppliedGeneratorHandler(final ModelContext<?> modelContext,
+                                        final CreationPlan creationPlan,
                                         final GeneratorContext generatorContext,
                                         final GeneratorResolver generatorResolver,
                                         final Instantiator instantiator) {
         this.modelContext = modelContext;
+        this.creationPlan = creationPlan;
         this.generatorContext = generatorContext;
         this.generatorResolver = generatorResolver;
         this.instantiator = instantiator;
@@ -49,15 +53,12 @@ public class UserSuppliedGeneratorHandler implements NodeHandler {
      */
     @Override
     public Optional<GeneratorResult> getResult(final Node node) {
-        return getUserSuppliedGenerator(node).map(g -> GeneratorResult.create(
-                g.generate(modelContext.getRandomProvider()), g.getHints()));
+        return getUserSuppliedGenerator(node).map(g -> GeneratorResult.fromGenerator(g, generatorContext.random()));
     }
 
     private Optional<Generator<?>> getUserSuppliedGenerator(final Node node) {
-        Optional<Generator<?>> generatorOpt = modelContext.getUserSuppliedGenerator(node.getField());
-        if (!generatorOpt.isPresent()) {
-            generatorOpt = modelContext.getUserSuppliedGenerator(node.getTargetClass());
-        }
+        final Optional<Generator<?>> generatorOpt = Optional.ofNullable(
+                creationPlan.getPlan(node).getUserSuppliedGenerator());
 
         if (generatorOpt.isPresent()) {
             final Generator<?> generator = generatorOpt.get();
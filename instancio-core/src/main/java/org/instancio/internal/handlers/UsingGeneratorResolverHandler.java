@@ -18,8 +18,9 @@ package org.instancio.internal.handlers;
 import org.instancio.Generator;
 import org.instancio.generator.GeneratorResolver;
 import org.instancio.generator.GeneratorResult;
-import org.instancio.internal.ModelContext;
 import org.instancio.internal.nodes.Node;
+import org.instancio.internal.plan.CreationPlan;
+import org.instancio.internal.random.RandomProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,22 +29,26 @@ import java.util.Optional;
 public class UsingGeneratorResolverHandler implements NodeHandler {
     private static final Logger LOG = LoggerFactory.getLogger(UsingGeneratorResolverHandler.class);
 
-    private final ModelContext<?> context;
+    private final RandomProvider random;
+    private final CreationPlan creationPlan;
     private final GeneratorResolver generatorResolver;
 
-    public UsingGeneratorResolverHandler(final ModelContext<?> context, final GeneratorResolver generatorResolver) {
-        this.context = context;
+    public UsingGeneratorResolverHandler(final RandomProvider random,
+                                         final CreationPlan creationPlan,
+                                         final GeneratorResolver generatorResolver) {
+        this.random = random;
+        this.creationPlan = creationPlan;
         this.generatorResolver = generatorResolver;
     }
 
     @Override
     public Optional<GeneratorResult> getResult(final Node node) {
-        final Class<?> effectiveType = context.getSubtypeMapping(node.getTargetClass());
+        final Class<?> effectiveType = creationPlan.getPlan(node).getEffectiveType();
         final Optional<Generator<?>> generatorOpt = generatorResolver.get(effectiveType);
 
         return generatorOpt.map(generator -> {
             LOG.trace("Using '{}' generator to create '{}'", generator.getClass().getSimpleName(), effectiveType.getName());
-            final GeneratorResult result = GeneratorResult.create(generator.generate(context.getRandomProvider()), generator.getHints());
+            final GeneratorResult result = GeneratorResult.fromGenerator(generator, random);
             LOG.trace("Generated {} using '{}' generator ", result, generator.getClass().getSimpleName());
             return result;
         });
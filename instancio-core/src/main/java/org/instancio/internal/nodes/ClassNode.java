@@ -15,6 +15,8 @@
  */
 package org.instancio.internal.nodes;
 
+import org.instancio.internal.reflection.ClassMetadata;
+import org.instancio.internal.reflection.FieldMetadata;
 import org.instancio.util.TypeUtils;
 import org.instancio.util.Verify;
 
@@ -69,15 +71,15 @@ public class ClassNode extends Node {
 
     private List<Node> makeChildren(final NodeContext nodeContext, final Class<?> klass) {
         final NodeFactory nodeFactory = new NodeFactory(nodeContext);
-        final List<Field> fields = nodeContext.getFieldCollector().getFields(klass);
+        final List<FieldMetadata> fields = ClassMetadata.of(klass).getFieldMetadata();
 
         return fields.stream()
-                .map(field -> {
-                    Type genericType = field.getGenericType();
-                    Class<?> type = field.getType();
+                .map(fieldMetadata -> {
+                    Type genericType = fieldMetadata.getGenericType();
+                    Class<?> type = fieldMetadata.getType();
 
                     if (genericType instanceof Class) {
-                        type = (Class<?>) field.getGenericType();
+                        type = (Class<?>) genericType;
                     } else if (genericType instanceof TypeVariable) {
                         final Type mappedType = getTypeMap().get(genericType);
                         if (mappedType instanceof Class) {
@@ -88,7 +90,7 @@ public class ClassNode extends Node {
                         }
                     }
 
-                    return nodeFactory.createNode(type, genericType, field, this);
+                    return nodeFactory.createNode(type, genericType, fieldMetadata.getField(), this);
                 })
                 .collect(toList());
     }
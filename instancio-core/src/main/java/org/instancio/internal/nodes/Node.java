@@ -15,6 +15,7 @@
  */
 package org.instancio.internal.nodes;
 
+import org.instancio.internal.reflection.FieldAccessor;
 import org.instancio.util.ObjectUtils;
 import org.instancio.util.Verify;
 
@@ -25,16 +26,21 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class Node {
     static final String JAVA_PKG_PREFIX = "java";
 
     private final NodeContext nodeContext;
+    private final int id;
     private final Field field;
     private final Class<?> targetClass;
     private final Type genericType;
+    private volatile FieldAccessor fieldAccessor;
     private Node parent;
-    private List<Node> children;
+    private volatile List<Node> children;
+    private volatile Map<Class<?>, Node> implementorNodes;
+    private boolean implementor;
     private final TypeMap typeMap;
 
     Node(final NodeContext nodeContext,
@@ -45,6 +51,7 @@ public abstract class Node {
          final Map<Type, Type> additionalTypeMap) {
 
         this.nodeContext = Verify.notNull(nodeContext, "nodeContext is null");
+        this.id = nodeContext.nextNodeId();
         this.targetClass = Verify.notNull(targetClass, "targetClass is null");
         this.field = field;
         this.genericType = genericType;
@@ -67,10 +74,40 @@ public abstract class Node {
         return nodeContext;
     }
 
+    /**
+     * Returns an identifier of this node that is unique within its {@link NodeContext}.
+     * Identifiers are assigned sequentially starting from zero.
+     *
+     * @return node id
+     */
+    public int getId() {
+        return id;
+    }
+
     public Field getField() {
         return field;
     }
 
+    /**
+     * Sets the value of this node's field on the given object.
+     * The field's accessor is resolved on first use and reused
+     * for subsequent values.
+     *
+     * @param target object containing the field, or {@code null} if there is none
+     * @param value  to set
+     */
+    public void setFieldValue(@Nullable final Object target, @Nullable final Object value) {
+        if (target == null) {
+            return;
+        }
+        FieldAccessor accessor = fieldAccessor;
+        if (accessor == null) {
+            accessor = FieldAccessor.of(Verify.notNull(field, "node has no field: %s", this));
+            fieldAccessor = accessor;
+        }
+        accessor.set(target, value);
+    }
+
     public Class<?> getTargetClass() {
         return targetClass;
     }
@@ -87,11 +124,63 @@ public abstract class Node {
         return typeMap;
     }
 
+    /**
+     * Returns child nodes, collecting them on first access.
+     * <p>
+     * Nodes can be shared across threads (see {@link NodeCache}),
+     * therefore children are collected at most once.
+     *
+     * @return child nodes
+     */
     public List<Node> getChildren() {
-        if (children == null) {
-            children = Collections.unmodifiableList(collectChildren());
+        List<Node> result = children;
+        if (result == null) {
+            synchronized (this) {
+                result = children;
+                if (result == null) {
+                    result = Collections.unmodifiableList(collectChildren());
+                    children = result;
+                }
+            }
         }
-        return children;
+        return result;
+    }
+
+    /**
+     * Returns a node representing the given implementation of this node's
+     * target class, which is expected to be an interface or an abstract class.
+     * An implementor node is created once per implementation class and reused
+     * on subsequent calls.
+     *
+     * @param implementorClass implementation of this node's target class
+     * @return implementor node
+     */
+    public Node getImplementorNode(final Class<?> implementorClass) {
+        Map<Class<?>, Node> nodes = implementorNodes;
+        if (nodes == null) {
+            synchronized (this) {
+                nodes = implementorNodes;
+                if (nodes == null) {
+                    nodes = new ConcurrentHashMap<>();
+                    implementorNodes = nodes;
+                }
+            }
+        }
+        return nodes.computeIfAbsent(implementorClass, klass -> {
+            final Node node = new ClassNode(nodeContext, klass, field, null, this);
+            node.implementor = true;
+            return node;
+        });
+    }
+
+    /**
+     * Returns {@code true} if this node was created by {@link #getImplementorNode(Class)}
+     * to represent an implementation of its parent's target class.
+     *
+     * @return whether this is an implementor node
+     */
+    public boolean isImplementorNode() {
+        return implementor;
     }
 
     @Override
@@ -113,7 +202,8 @@ public abstract class Node {
     @Override
     public final String toString() {
         String fieldName = field == null ? "null" : field.getName();
-        String numChildren = String.format("[%s]", (children == null ? 0 : children.size()));
+        final List<Node> collected = children;
+        String numChildren = String.format("[%s]", (collected == null ? 0 : collected.size()));
         return this.getClass().getSimpleName() + numChildren + "["
                 + targetClass.getSimpleName() + ", " + genericType + ", field: " + fieldName + "]";
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.util.Verify;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide cache of root nodes.
+ * <p>
+ * A node graph depends only on the root type, the subtype map and the root type map.
+ * Since nodes are not modified once created (children are collected lazily and
+ * in a thread-safe manner), a graph can be shared across models, engines and threads.
+ * <p>
+ * The cache is bounded. Once the maximum size is exceeded, the oldest entries are evicted.
+ */
+public final class NodeCache {
+    private static final Logger LOG = LoggerFactory.getLogger(NodeCache.class);
+
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final NodeCache INSTANCE = new NodeCache(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final Map<Key, Node> cache = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    NodeCache(final int maxSize) {
+        Verify.isTrue(maxSize > 0, "Max size must be positive: %s", maxSize);
+        this.maxSize = maxSize;
+    }
+
+    public static NodeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a cached root node for the given parameters, creating one if necessary.
+     *
+     * @param rootClass   root class
+     * @param rootType    root type, which may be a parameterized type
+     * @param rootTypeMap root type variable mappings
+     * @param subtypeMap  subtype mappings
+     * @return root node
+     */
+    public Node getRootNode(final Class<?> rootClass,
+                            @Nullable final Type rootType,
+                            final Map<TypeVariable<?>, Class<?>> rootTypeMap,
+                            final Map<Class<?>, Class<?>> subtypeMap) {
+
+        final Node cached = cache.get(new Key(rootClass, rootType, rootTypeMap, subtypeMap));
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        // copy the maps since the cached graph must not be affected by later modifications
+        final Key key = new Key(rootClass, rootType,
+                Collections.unmodifiableMap(new HashMap<>(rootTypeMap)),
+                Collections.unmodifiableMap(new HashMap<>(subtypeMap)));
+
+        final NodeContext nodeContext = new NodeContext(key.rootTypeMap, key.subtypeMap);
+        final Node rootNode = new NodeFactory(nodeContext).createRootNode(rootClass, rootType);
+        final Node existing = cache.putIfAbsent(key, rootNode);
+        if (existing != null) {
+            // another thread created the graph in the meantime
+            hits.incrementAndGet();
+            return existing;
+        }
+
+        misses.incrementAndGet();
+        insertionOrder.add(key);
+        evictIfNecessary();
+        return rootNode;
+    }
+
+    private void evictIfNecessary() {
+        while (cache.size() > maxSize) {
+            final Key eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (cache.remove(eldest) != null) {
+                evictions.incrementAndGet();
+                LOG.trace("Evicted node graph for {}", eldest.rootType);
+            }
+        }
+    }
+
+    /**
+     * Removes all cached node graphs. Statistics are not reset.
+     */
+    public void clear() {
+        cache.clear();
+        insertionOrder.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NodeCache[size=%s, hits=%s, misses=%s, evictions=%s]",
+                size(), getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    private static final class Key {
+        private final Class<?> rootClass;
+        private final Type rootType;
+        private final Map<TypeVariable<?>, Class<?>> rootTypeMap;
+        private final Map<Class<?>, Class<?>> subtypeMap;
+        private final int hashCode;
+
+        private Key(final Class<?> rootClass,
+                    @Nullable final Type rootType,
+                    final Map<TypeVariable<?>, Class<?>> rootTypeMap,
+                    final Map<Class<?>, Class<?>> subtypeMap) {
+
+            this.rootClass = rootClass;
+            this.rootType = rootType;
+            this.rootTypeMap = rootTypeMap;
+            this.subtypeMap = subtypeMap;
+            this.hashCode = Objects.hash(rootClass, rootType, rootTypeMap, subtypeMap);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key other = (Key) o;
+            return hashCode == other.hashCode
+                    && rootClass.equals(other.rootClass)
+                    && Objects.equals(rootType, other.rootType)
+                    && rootTypeMap.equals(other.rootTypeMap)
+                    && subtypeMap.equals(other.subtypeMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
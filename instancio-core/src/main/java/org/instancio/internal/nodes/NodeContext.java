@@ -15,19 +15,17 @@
  */
 package org.instancio.internal.nodes;
 
-import org.instancio.internal.reflection.DeclaredAndInheritedFieldsCollector;
-import org.instancio.internal.reflection.FieldCollector;
-
 import java.lang.reflect.TypeVariable;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class NodeContext {
 
-    private final FieldCollector fieldCollector = new DeclaredAndInheritedFieldsCollector();
-    private final Set<Node> visited = new HashSet<>();
+    private final Set<Node> visited = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nodeIdSequence = new AtomicInteger();
     private final Map<TypeVariable<?>, Class<?>> rootTypeMap;
     private final Map<Class<?>, Class<?>> subtypeMap;
 
@@ -55,7 +53,8 @@ public class NodeContext {
         return !visited.contains(node);
     }
 
-    public FieldCollector getFieldCollector() {
-        return fieldCollector;
+    int nextNodeId() {
+        return nodeIdSequence.getAndIncrement();
     }
+
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.plan;
+
+import org.instancio.Generator;
+import org.instancio.OnCompleteCallback;
+import org.instancio.internal.ModelContext;
+import org.instancio.internal.nodes.ClassNode;
+import org.instancio.internal.nodes.Node;
+import org.instancio.settings.Setting;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A table of {@link NodePlan}s indexed by {@link Node#getId()}.
+ * <p>
+ * Since node graphs can be infinite (for example, when a class has
+ * a cyclic reference), plans are not compiled upfront. Instead, a plan
+ * is created the first time a node is generated and reused afterwards,
+ * including across objects created from the same model.
+ * <p>
+ * All nodes passed to a plan must belong to the same node graph.
+ * Plans can be read concurrently.
+ */
+public final class CreationPlan {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ModelContext<?> context;
+    private final boolean backReferences;
+    private final int maxDepth;
+    private volatile NodePlan[] plans = new NodePlan[INITIAL_CAPACITY];
+
+    public CreationPlan(final ModelContext<?> context) {
+        this.context = context;
+        this.backReferences = Boolean.TRUE.equals(context.getSettings().get(Setting.BACK_REFERENCES));
+        this.maxDepth = Math.max(0, context.getSettings().get(Setting.MAX_DEPTH));
+    }
+
+    /**
+     * Returns the plan for the given node, creating it if necessary.
+     *
+     * @param node to get a plan for
+     * @return node plan
+     */
+    public NodePlan getPlan(final Node node) {
+        final NodePlan[] snapshot = plans;
+        final int id = node.getId();
+        if (id < snapshot.length) {
+            final NodePlan plan = snapshot[id];
+            if (plan != null) {
+                return plan;
+            }
+        }
+        return createPlan(node);
+    }
+
+    /**
+     * Records the handler that produces a value for the given node.
+     *
+     * @param node         to update the plan for
+     * @param handlerIndex index of the handler, or {@link NodePlan#NO_HANDLER}
+     */
+    public synchronized void setHandlerIndex(final Node node, final int handlerIndex) {
+        final NodePlan plan = getPlan(node);
+        plans[node.getId()] = plan.withHandlerIndex(handlerIndex);
+    }
+
+    private synchronized NodePlan createPlan(final Node node) {
+        final int id = node.getId();
+        NodePlan[] current = plans;
+        if (id >= current.length) {
+            current = Arrays.copyOf(current, Math.max(id + 1, current.length * 2));
+            plans = current;
+        }
+        if (current[id] == null) {
+            final Generator<?> userSuppliedGenerator = getUserSuppliedGenerator(node);
+            current[id] = new NodePlan(
+                    isIgnored(node),
+                    isNullable(node),
+                    userSuppliedGenerator,
+                    getCallback(node),
+                    context.getSubtypeMapping(node.getTargetClass()),
+                    isCyclic(node),
+                    isBeyondMaxDepth(node),
+                    userSuppliedGenerator == null ? getBackReferenceDepth(node) : NodePlan.NO_BACK_REFERENCE,
+                    NodePlan.UNRESOLVED_HANDLER);
+        }
+        return current[id];
+    }
+
+    /**
+     * Checks whether the given node starts a cycle. The node's parent is compared
+     * against the nodes that produced each of the objects it is nested in: if the
+     * parent and grandparent match, the object would be a repeat of an ancestor.
+     * <p>
+     * An object created from an implementor node is attributed to the abstract node
+     * it implements. Since plans are created when a node is first generated,
+     * the plans of its ancestors, including their handlers, are already resolved.
+     */
+    private boolean isCyclic(final Node node) {
+        final Node parent = node.getParent();
+        if (parent == null) {
+            return false;
+        }
+
+        // the node whose value owns the given node's value
+        Node owner = node.isImplementorNode() ? parent.getParent() : parent;
+
+        while (owner != null && owner.getParent() != null) {
+            final Node ancestor = isGeneratedByImplementor(owner) ? owner : owner.getParent();
+            if (parent.equals(ancestor) && Objects.equals(parent.getParent(), ancestor.getParent())) {
+                return true;
+            }
+            owner = owner.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the given node exceeds the maximum depth. An implementor node
+     * is at the same depth as the abstract node it implements.
+     */
+    private boolean isBeyondMaxDepth(final Node node) {
+        if (maxDepth == 0) {
+            return false;
+        }
+        int depth = 0;
+        for (Node current = node; current.getParent() != null; current = current.getParent()) {
+            if (!current.isImplementorNode()) {
+                depth++;
+            }
+        }
+        return depth > maxDepth;
+    }
+
+    /**
+     * Returns the distance from the given field's owner to the nearest object
+     * it is nested in that has the same type as the field and that the field
+     * would close a cycle to. Collection, map and array elements, which have
+     * no field, are never back references.
+     * <p>
+     * As in {@link #isCyclic(Node)}, nodes are compared using {@link Node#equals(Object)}:
+     * an ancestor is skipped if it leads to the given node through the same field,
+     * since the path then repeats one relationship, as in {@code Employee.manager}
+     * or a tree's child nodes, rather than returning to the ancestor through an
+     * inverse one. Such nodes are left to the cycle detection.
+     */
+    private int getBackReferenceDepth(final Node node) {
+        if (!backReferences || node.getField() == null || !(node instanceof ClassNode) || node.isImplementorNode()) {
+            return NodePlan.NO_BACK_REFERENCE;
+        }
+
+        int depth = 0;
+        Node child = node;
+        for (Node owner = node.getParent(); owner != null; owner = owner.getParent()) {
+            if (owner.getTargetClass() == node.getTargetClass() && !child.equals(node)) {
+                return depth;
+            }
+            child = owner;
+            depth++;
+        }
+        return NodePlan.NO_BACK_REFERENCE;
+    }
+
+    private boolean isGeneratedByImplementor(final Node node) {
+        final NodePlan[] snapshot = plans;
+        final int id = node.getId();
+        return id < snapshot.length
+                && snapshot[id] != null
+                && snapshot[id].getHandlerIndex() == NodePlan.NO_HANDLER;
+    }
+
+    private boolean isIgnored(final Node node) {
+        final Field field = node.getField();
+        return context.isIgnored(field)
+                || context.isIgnored(node.getTargetClass())
+                || (field != null && Modifier.isStatic(field.getModifiers()));
+    }
+
+    private boolean isNullable(final Node node) {
+        return context.isNullable(node.getField()) || context.isNullable(node.getTargetClass());
+    }
+
+    @Nullable
+    private Generator<?> getUserSuppliedGenerator(final Node node) {
+        final Optional<Generator<?>> generator = context.getUserSuppliedGenerator(node.getField());
+        return generator.isPresent()
+                ? generator.get()
+                : context.getUserSuppliedGenerator(node.getTargetClass()).orElse(null);
+    }
+
+    @Nullable
+    private OnCompleteCallback<?> getCallback(final Node node) {
+        final OnCompleteCallback<?> callback = context.getUserSuppliedFieldCallback(node.getField());
+        return callback != null ? callback : context.getUserSuppliedClassCallback(node.getTargetClass());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.plan;
+
+import org.instancio.Generator;
+import org.instancio.OnCompleteCallback;
+
+import javax.annotation.Nullable;
+import java.util.StringJoiner;
+
+/**
+ * Pre-resolved information about how to generate a value for a node.
+ * This includes directives from the model, such as whether the node is ignored
+ * or nullable, a user-supplied generator and callback, the effective type
+ * of the node after applying subtype mappings, whether generating
+ * the node would start a cycle, and whether it exceeds the maximum depth.
+ * <p>
+ * Plans are immutable. Information discovered during generation,
+ * such as the handler that produces a node's value, is recorded
+ * by replacing the plan with an updated copy.
+ */
+public final class NodePlan {
+
+    /**
+     * Handler index denoting that the handler has not been resolved yet.
+     */
+    public static final int UNRESOLVED_HANDLER = -1;
+
+    /**
+     * Handler index denoting that none of the handlers produces a value for the node.
+     */
+    public static final int NO_HANDLER = -2;
+
+    /**
+     * Back reference depth denoting that the node is not a back reference.
+     */
+    public static final int NO_BACK_REFERENCE = -1;
+
+    private final boolean ignored;
+    private final boolean nullable;
+    private final Generator<?> userSuppliedGenerator;
+    private final OnCompleteCallback<?> callback;
+    private final Class<?> effectiveType;
+    private final boolean cyclic;
+    private final boolean beyondMaxDepth;
+    private final int backReferenceDepth;
+    private final int handlerIndex;
+
+    NodePlan(final boolean ignored,
+             final boolean nullable,
+             @Nullable final Generator<?> userSuppliedGenerator,
+             @Nullable final OnCompleteCallback<?> callback,
+             final Class<?> effectiveType,
+             final boolean cyclic,
+             final boolean beyondMaxDepth,
+             final int backReferenceDepth,
+             final int handlerIndex) {
+
+        this.ignored = ignored;
+        this.nullable = nullable;
+        this.userSuppliedGenerator = userSuppliedGenerator;
+        this.callback = callback;
+        this.effectiveType = effectiveType;
+        this.cyclic = cyclic;
+        this.beyondMaxDepth = beyondMaxDepth;
+        this.backReferenceDepth = backReferenceDepth;
+        this.handlerIndex = handlerIndex;
+    }
+
+    public boolean isIgnored() {
+        return ignored;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    /**
+     * Returns the generator supplied by the user for the node's field or target class.
+     *
+     * @return user-supplied generator, or {@code null} if none
+     */
+    public Generator<?> getUserSuppliedGenerator() {
+        return userSuppliedGenerator;
+    }
+
+    /**
+     * Returns the callback supplied by the user for the node's field or target class.
+     *
+     * @return callback, or {@code null} if none
+     */
+    public OnCompleteCallback<?> getCallback() {
+        return callback;
+    }
+
+    /**
+     * Returns the node's target class, or its subtype if a subtype mapping was specified.
+     *
+     * @return effective type
+     */
+    public Class<?> getEffectiveType() {
+        return effectiveType;
+    }
+
+    /**
+     * Returns {@code true} if the node's value would repeat an ancestor that has
+     * the same parent, in which case the node should be set to {@code null}.
+     *
+     * @return whether the node is the start of a cycle
+     */
+    public boolean isCyclic() {
+        return cyclic;
+    }
+
+    /**
+     * Returns {@code true} if the node is deeper than {@link org.instancio.settings.Setting#MAX_DEPTH},
+     * in which case the node should be set to {@code null}.
+     *
+     * @return whether the node exceeds the maximum depth
+     */
+    public boolean isBeyondMaxDepth() {
+        return beyondMaxDepth;
+    }
+
+    /**
+     * Returns the number of levels between the node's owner and the object
+     * that should be assigned to the node, where {@code 0} is the owner itself.
+     * Back references are only resolved if {@link org.instancio.settings.Setting#BACK_REFERENCES}
+     * is enabled.
+     *
+     * @return back reference depth, or {@link #NO_BACK_REFERENCE}
+     */
+    public int getBackReferenceDepth() {
+        return backReferenceDepth;
+    }
+
+    /**
+     * Returns the index of the handler that produces a value for the node,
+     * {@link #NO_HANDLER} if there is no such handler, or {@link #UNRESOLVED_HANDLER}.
+     *
+     * @return handler index
+     */
+    public int getHandlerIndex() {
+        return handlerIndex;
+    }
+
+    NodePlan withHandlerIndex(final int handlerIndex) {
+        return new NodePlan(ignored, nullable, userSuppliedGenerator, callback, effectiveType, cyclic, beyondMaxDepth,
+                backReferenceDepth, handlerIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", NodePlan.class.getSimpleName() + "[", "]")
+                .add("ignored=" + ignored)
+                .add("nullable=" + nullable)
+                .add("userSuppliedGenerator=" + userSuppliedGenerator)
+                .add("callback=" + callback)
+                .add("effectiveType=" + effectiveType.getName())
+                .add("cyclic=" + cyclic)
+                .add("beyondMaxDepth=" + beyondMaxDepth)
+                .add("backReferenceDepth=" + backReferenceDepth)
+                .add("handlerIndex=" + handlerIndex)
+                .toString();
+    }
+}
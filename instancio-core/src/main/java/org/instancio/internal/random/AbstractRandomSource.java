@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.util.Verify;
+
+/**
+ * Base class for random sources that generate 64 bits at a time.
+ * <p>
+ * Bounded values are drawn without allocation. Ranges of up to 2<sup>32</sup>
+ * values use Lemire's nearly divisionless method, while wider ranges
+ * use rejection sampling.
+ * <p>
+ * Characters are drawn several at a time: each 64-bit value is split
+ * into chunks just wide enough to index the alphabet, and chunks
+ * that fall outside the alphabet are discarded.
+ */
+abstract class AbstractRandomSource implements RandomSource {
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    private static final long MAX_32_BIT_RANGE = 1L << 32;
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public long nextLong(final long lower, final long upper) {
+        Verify.isTrue(lower < upper, "Lower must be less than upper: %s, %s", lower, upper);
+
+        final long range = upper - lower;
+        if (range > 0 && range <= MAX_32_BIT_RANGE) {
+            return lower + nextBounded32(range);
+        }
+        if (range > 0) {
+            return lower + nextBounded64(range);
+        }
+
+        // the range is larger than 2^63, therefore at least
+        // half the generated values will fall within it
+        long r;
+        do {
+            r = nextLong();
+        } while (r < lower || r >= upper);
+        return r;
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return (int) nextBounded32(bound);
+    }
+
+    @Override
+    public long nextLong(final long bound) {
+        return bound <= MAX_32_BIT_RANGE ? nextBounded32(bound) : nextBounded64(bound);
+    }
+
+    @Override
+    public void nextChars(final char[] buffer, final int offset, final int length, final char[] alphabet) {
+        final int size = alphabet.length;
+        final int bits = bitsPerChar(size);
+        final int mask = (1 << bits) - 1;
+        final int charsPerLong = Long.SIZE / bits;
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            long bitsLeft = nextLong();
+            for (int n = 0; n < charsPerLong && i < end; n++) {
+                final int index = (int) bitsLeft & mask;
+                bitsLeft >>>= bits;
+                if (index < size) {
+                    buffer[i++] = alphabet[index];
+                }
+            }
+        }
+    }
+
+    @Override
+    public void nextLatin1Chars(final byte[] buffer, final int offset, final int length, final byte[] alphabet) {
+        final int size = alphabet.length;
+        final int bits = bitsPerChar(size);
+        final int mask = (1 << bits) - 1;
+        final int charsPerLong = Long.SIZE / bits;
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            long bitsLeft = nextLong();
+            for (int n = 0; n < charsPerLong && i < end; n++) {
+                final int index = (int) bitsLeft & mask;
+                bitsLeft >>>= bits;
+                if (index < size) {
+                    buffer[i++] = alphabet[index];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bits required to index an alphabet of the given size,
+     * but at least one, so that a single-character alphabet does not need special handling.
+     */
+    private static int bitsPerChar(final int alphabetSize) {
+        return Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(alphabetSize - 1));
+    }
+
+    private long nextBounded32(final long range) {
+        long m = (nextLong() >>> 32) * range;
+        long low = m & 0xFFFFFFFFL;
+        if (low < range) {
+            final long threshold = (MAX_32_BIT_RANGE - range) % range;
+            while (low < threshold) {
+                m = (nextLong() >>> 32) * range;
+                low = m & 0xFFFFFFFFL;
+            }
+        }
+        return m >>> 32;
+    }
+
+    private long nextBounded64(final long range) {
+        final long mask = range - 1;
+        if ((range & mask) == 0) {
+            return nextLong() & mask;
+        }
+        long u = nextLong() >>> 1;
+        long r = u % range;
+        while (u + mask - r < 0) {
+            u = nextLong() >>> 1;
+            r = u % range;
+        }
+        return r;
+    }
+}
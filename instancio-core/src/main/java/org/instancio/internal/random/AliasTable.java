@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.util.Verify;
+
+/**
+ * Samples indices {@code 0..n-1} with probabilities proportional to given weights
+ * using Vose's alias method. The table is built once in O(n) time; each sample
+ * takes constant time and at most two random draws.
+ */
+public final class AliasTable {
+
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    private AliasTable(final double[] probabilities, final int[] aliases) {
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Creates an alias table for the given weights.
+     *
+     * @param weights non-negative weights, at least one of which must be positive
+     * @return alias table
+     */
+    public static AliasTable of(final double[] weights) {
+        Verify.isTrue(weights.length > 0, "Weights must not be empty");
+
+        double total = 0;
+        for (double weight : weights) {
+            Verify.isTrue(weight >= 0 && !Double.isInfinite(weight), "Weight must be a finite non-negative number: %s", weight);
+            total += weight;
+        }
+        Verify.isTrue(total > 0, "At least one weight must be positive");
+
+        final int n = weights.length;
+        final double[] scaled = new double[n];
+        final double[] probabilities = new double[n];
+        final int[] aliases = new int[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        while (smallSize > 0 && largeSize > 0) {
+            final int less = small[--smallSize];
+            final int more = large[--largeSize];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        // whatever remains is (up to rounding) exactly full
+        while (largeSize > 0) {
+            probabilities[large[--largeSize]] = 1;
+        }
+        while (smallSize > 0) {
+            probabilities[small[--smallSize]] = 1;
+        }
+
+        return new AliasTable(probabilities, aliases);
+    }
+
+    /**
+     * Returns the number of indices in this table.
+     *
+     * @return table size
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+    /**
+     * Returns a random index, chosen with probability proportional to its weight.
+     *
+     * @param random provider to draw from
+     * @return random index between {@code 0} (inclusive) and {@link #size()} (exclusive)
+     */
+    public int next(final RandomProvider random) {
+        final int column = random.nextInt(probabilities.length);
+        final double probability = probabilities[column];
+        if (probability >= 1 || random.nextBoolean(probability)) {
+            return column;
+        }
+        return aliases[column];
+    }
+}
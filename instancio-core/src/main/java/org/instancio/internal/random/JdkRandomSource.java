@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import java.util.Random;
+
+/**
+ * A random source backed by {@link Random}.
+ * <p>
+ * For a given seed, this source produces the same values as previous
+ * versions of Instancio, which makes it the default algorithm.
+ */
+final class JdkRandomSource implements RandomSource {
+
+    private final Random random;
+
+    JdkRandomSource(final long seed) {
+        this.random = new Random(seed); // NOSONAR
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public long nextLong(final long lower, final long upper) {
+        return RandomDataGenerator.nextLong(random, lower, upper);
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong(final long bound) {
+        // same branches as nextLong(lower, upper) to produce identical values
+        return bound < Integer.MAX_VALUE
+                ? random.nextInt((int) bound)
+                : RandomDataGenerator.nextLong(random, bound);
+    }
+
+    @Override
+    public void nextChars(final char[] buffer, final int offset, final int length, final char[] alphabet) {
+        // one draw per character to produce the same strings as previous versions
+        for (int i = offset, end = offset + length; i < end; i++) {
+            buffer[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+    }
+
+    @Override
+    public void nextLatin1Chars(final byte[] buffer, final int offset, final int length, final byte[] alphabet) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            buffer[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+    }
+
+    @Override
+    public RandomSource split() {
+        return new JdkRandomSource(random.nextLong());
+    }
+}
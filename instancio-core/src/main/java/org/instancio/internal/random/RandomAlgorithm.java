@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.LongFunction;
+
+/**
+ * Random number generation algorithms that can be selected
+ * using the {@link Setting#RANDOM_ALGORITHM} setting.
+ */
+public enum RandomAlgorithm {
+
+    /**
+     * Uses {@link java.util.Random}. This is the default algorithm.
+     */
+    JDK(JdkRandomSource::new),
+
+    /**
+     * Uses the SplitMix64 algorithm.
+     */
+    SPLITMIX64(SplitMix64RandomSource::new),
+
+    /**
+     * Uses the xoshiro256** algorithm.
+     */
+    XOSHIRO256_STAR_STAR(Xoshiro256StarStarRandomSource::new);
+
+    private final LongFunction<RandomSource> factory;
+
+    RandomAlgorithm(final LongFunction<RandomSource> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a new random source using the given seed.
+     *
+     * @param seed for the random source
+     * @return random source
+     */
+    public RandomSource create(final long seed) {
+        return factory.apply(seed);
+    }
+
+    /**
+     * Returns the algorithm specified by the given settings.
+     *
+     * @param settings containing the {@link Setting#RANDOM_ALGORITHM} value
+     * @return random algorithm
+     */
+    public static RandomAlgorithm from(final Settings settings) {
+        final String name = settings.get(Setting.RANDOM_ALGORITHM);
+        return valueOfName(name);
+    }
+
+    static RandomAlgorithm valueOfName(final String name) {
+        final String normalized = name.trim().toUpperCase(Locale.ROOT);
+        for (RandomAlgorithm algorithm : values()) {
+            if (algorithm.name().equals(normalized)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "Invalid random algorithm: '%s'. Valid values are: %s", name, Arrays.toString(values())));
+    }
+}
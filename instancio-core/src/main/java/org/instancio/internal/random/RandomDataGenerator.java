@@ -52,17 +52,16 @@ public class RandomDataGenerator {
         }
     }
 
-    private static long nextLong(final Random random, final long n) throws IllegalArgumentException {
+    static long nextLong(final Random random, final long n) throws IllegalArgumentException {
         if (n > 0) {
-            final byte[] byteArray = new byte[8];
             long bits;
             long val;
             do {
-                random.nextBytes(byteArray);
-                bits = 0;
-                for (final byte b : byteArray) {
-                    bits = (bits << 8) | ((b) & 0xffL);
-                }
+                // modified to avoid allocating a byte array: equivalent to
+                // reading 8 bytes produced by Random.nextBytes() as a big-endian long
+                final long low = random.nextInt() & 0xffffffffL;
+                final long high = random.nextInt() & 0xffffffffL;
+                bits = Long.reverseBytes((high << 32) | low);
                 bits &= 0x7fffffffffffffffL;
                 val = bits % n;
             } while (bits - val + (n - 1) < 0);
@@ -71,7 +70,7 @@ public class RandomDataGenerator {
         throw new IllegalStateException("Not Strictly positive: " + n);
     }
 
-    static double nextDouble(final Random random, double lower, double upper) {
+    static double nextDouble(final RandomSource random, double lower, double upper) {
         Verify.isTrue(lower < upper, "Lower must be less than upper: %s, %s", lower, upper);
         Verify.isFalse(Double.isInfinite(lower), "Lower bound must not be infinite");
         Verify.isFalse(Double.isInfinite(upper), "Upper bound must not be infinite");
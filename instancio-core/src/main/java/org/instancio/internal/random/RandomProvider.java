@@ -30,6 +30,75 @@ public interface RandomProvider {
      */
     int getSeed();
 
+    /**
+     * Returns a random int between {@code 0} (inclusive) and the bound (exclusive).
+     * <p>
+     * Unlike {@link #intBetween(int, int)}, the bound is not validated.
+     * It is intended for internal use with bounds that are known
+     * to be positive, for example, validated by a generator spec.
+     *
+     * @param bound upper bound (exclusive), must be positive
+     * @return a random int between zero and the bound, exclusive
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a random long from the full range of {@code long} values.
+     *
+     * @return a random long
+     */
+    long nextLong();
+
+    /**
+     * Returns a random long between {@code 0} (inclusive) and the bound (exclusive).
+     * <p>
+     * Unlike {@link #longBetween(long, long)}, the bound is not validated.
+     *
+     * @param bound upper bound (exclusive), must be positive
+     * @return a random long between zero and the bound, exclusive
+     */
+    long nextLong(long bound);
+
+    /**
+     * Returns {@code true} with the given probability.
+     *
+     * @param probability of returning {@code true}, between {@code 0.0} and {@code 1.0}
+     * @return a random boolean
+     */
+    boolean nextBoolean(double probability);
+
+    /**
+     * Fills the given array with random ints between the min and max, exclusive.
+     * The arguments are validated once rather than for each element.
+     *
+     * @param array to fill
+     * @param min   lower bound
+     * @param max   upper bound (exclusive)
+     */
+    void fill(int[] array, int min, int max);
+
+    /**
+     * Fills the given range of the buffer with random characters from the alphabet.
+     * Arguments are not validated.
+     *
+     * @param buffer   to fill
+     * @param offset   index of the first character to fill
+     * @param length   number of characters to fill
+     * @param alphabet non-empty array of characters to choose from
+     */
+    void nextChars(char[] buffer, int offset, int length, char[] alphabet);
+
+    /**
+     * Fills the given range of the buffer with random Latin-1 characters from the alphabet,
+     * one byte per character. Arguments are not validated.
+     *
+     * @param buffer   to fill
+     * @param offset   index of the first character to fill
+     * @param length   number of characters to fill
+     * @param alphabet non-empty array of Latin-1 characters to choose from
+     */
+    void nextLatin1Chars(byte[] buffer, int offset, int length, byte[] alphabet);
+
     /**
      * @return a random {@code true} or {@code false} value with a {@code 0.5} probability.
      */
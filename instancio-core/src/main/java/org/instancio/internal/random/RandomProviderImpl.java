@@ -19,12 +19,17 @@ import org.instancio.util.SeedUtil;
 import org.instancio.util.Verify;
 
 import java.util.Collection;
-import java.util.Random;
+import java.util.List;
+import java.util.RandomAccess;
 
 public class RandomProviderImpl implements RandomProvider {
 
+    private static final char[] UPPER_CASE_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final int ALPHABET_SIZE = UPPER_CASE_ALPHABET.length;
+
     private final int seed;
-    private final Random random;
+    private final RandomAlgorithm algorithm;
+    private RandomSource random;
 
     /**
      * Create an instance with a random seed value.
@@ -39,8 +44,31 @@ public class RandomProviderImpl implements RandomProvider {
      * @param seed for the random generator
      */
     public RandomProviderImpl(final int seed) {
+        this(seed, RandomAlgorithm.JDK);
+    }
+
+    /**
+     * Create an instance with the given seed value using the specified algorithm.
+     *
+     * @param seed      for the random generator
+     * @param algorithm random number generation algorithm
+     */
+    public RandomProviderImpl(final int seed, final RandomAlgorithm algorithm) {
         this.seed = seed;
-        this.random = new Random(seed); // NOSONAR
+        this.algorithm = algorithm;
+        this.random = algorithm.create(seed);
+    }
+
+    /**
+     * Replaces the random source with a new one, of the same algorithm,
+     * created using the given 64-bit seed. This allows a provider to be
+     * reused for values that require independent random sequences.
+     * The value returned by {@link #getSeed()} is not affected.
+     *
+     * @param sourceSeed seed for the new random source
+     */
+    public void reseed(final long sourceSeed) {
+        this.random = algorithm.create(sourceSeed);
     }
 
     @Override
@@ -48,36 +76,88 @@ public class RandomProviderImpl implements RandomProvider {
         return seed;
     }
 
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public long nextLong(final long bound) {
+        return random.nextLong(bound);
+    }
+
+    @Override
+    public boolean nextBoolean(final double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    @Override
+    public void fill(final int[] array, final int min, final int max) {
+        Verify.isTrue(min < max, "Min must be less than max");
+        final long range = (long) max - min;
+        if (range < Integer.MAX_VALUE) {
+            final int bound = (int) range;
+            for (int i = 0; i < array.length; i++) {
+                array[i] = min + random.nextInt(bound);
+            }
+        } else {
+            for (int i = 0; i < array.length; i++) {
+                array[i] = (int) random.nextLong(min, max);
+            }
+        }
+    }
+
+    @Override
+    public void nextChars(final char[] buffer, final int offset, final int length, final char[] alphabet) {
+        random.nextChars(buffer, offset, length, alphabet);
+    }
+
+    @Override
+    public void nextLatin1Chars(final byte[] buffer, final int offset, final int length, final byte[] alphabet) {
+        random.nextLatin1Chars(buffer, offset, length, alphabet);
+    }
+
     @Override
     public boolean trueOrFalse() {
-        return intBetween(0, 2) == 1;
+        return random.nextInt(2) == 1;
     }
 
     @Override
     public boolean diceRoll(final boolean precondition) {
-        return precondition && intBetween(0, 6) == 1;
+        return precondition && random.nextInt(6) == 1;
     }
 
     @Override
     public byte byteBetween(final byte min, final byte max) {
-        return (byte) longBetween(min, max);
+        return (byte) intBetween(min, max);
     }
 
     @Override
     public short shortBetween(final short min, final short max) {
-        return (short) longBetween(min, max);
+        return (short) intBetween(min, max);
     }
 
     @Override
     public int intBetween(final int min, final int max) {
-        Verify.isTrue(min < max, "Min must be less than max");
+        // Bounds are validated by generator specs when they are configured.
+        // Ranges that fit in an int are drawn directly, while invalid or
+        // wider ranges take the validating long path.
+        final long range = (long) max - min;
+        if (range > 0 && range < Integer.MAX_VALUE) {
+            return min + random.nextInt((int) range);
+        }
         return (int) longBetween(min, max);
     }
 
     @Override
     public long longBetween(final long min, final long max) {
         Verify.isTrue(min < max, "Min must be less than max");
-        return RandomDataGenerator.nextLong(random, min, max);
+        return random.nextLong(min, max);
     }
 
     @Override
@@ -92,30 +172,30 @@ public class RandomProviderImpl implements RandomProvider {
 
     @Override
     public char character() {
-        return (char) (intBetween(0, 26) + 'A');
+        return (char) (random.nextInt(ALPHABET_SIZE) + 'A');
     }
 
     @Override
     public String alphabetic(final int length) {
-        char[] s = new char[length];
-        for (int i = 0; i < length; i++) {
-            s[i] = character();
-        }
-
+        final char[] s = new char[length];
+        random.nextChars(s, 0, length, UPPER_CASE_ALPHABET);
         return new String(s);
     }
 
     @Override
     public <T> T from(final T[] array) {
         Verify.notEmpty(array, "Array must have at least one element");
-        return array[intBetween(0, array.length)];
+        return array[random.nextInt(array.length)];
     }
 
     @Override
     public <T> T from(final Collection<T> collection) {
         Verify.notEmpty(collection, "Collection must have at least one element");
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return ((List<T>) collection).get(random.nextInt(collection.size()));
+        }
         return collection.stream()
-                .skip(intBetween(0, collection.size()))
+                .skip(random.nextInt(collection.size()))
                 .findFirst()
                 .orElse(null);
     }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * A source of random bits used by {@link RandomProviderImpl}.
+ * <p>
+ * Implementations are not thread-safe. Independent sources for use
+ * by other threads can be obtained using {@link #split()}.
+ */
+public interface RandomSource {
+
+    /**
+     * Returns the next pseudorandom, uniformly distributed {@code long} value.
+     *
+     * @return random long
+     */
+    long nextLong();
+
+    /**
+     * Returns a pseudorandom, uniformly distributed {@code double} value
+     * between {@code 0.0} (inclusive) and {@code 1.0} (exclusive).
+     *
+     * @return random double
+     */
+    double nextDouble();
+
+    /**
+     * Returns a pseudorandom, uniformly distributed {@code long} value
+     * between the lower bound (inclusive) and the upper bound (exclusive).
+     *
+     * @param lower bound, inclusive
+     * @param upper bound, exclusive
+     * @return random long within the given range
+     */
+    long nextLong(long lower, long upper);
+
+    /**
+     * Returns a pseudorandom, uniformly distributed {@code int} value
+     * between {@code 0} (inclusive) and the bound (exclusive).
+     * <p>
+     * The bound is not validated and must be positive.
+     *
+     * @param bound upper bound, exclusive
+     * @return random int within the given range
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a pseudorandom, uniformly distributed {@code long} value
+     * between {@code 0} (inclusive) and the bound (exclusive).
+     * <p>
+     * The bound is not validated and must be positive.
+     *
+     * @param bound upper bound, exclusive
+     * @return random long within the given range
+     */
+    long nextLong(long bound);
+
+    /**
+     * Fills the given range of the buffer with characters chosen
+     * uniformly at random from the alphabet.
+     *
+     * @param buffer   to fill
+     * @param offset   index of the first character to fill
+     * @param length   number of characters to fill
+     * @param alphabet non-empty array of characters to choose from
+     */
+    void nextChars(char[] buffer, int offset, int length, char[] alphabet);
+
+    /**
+     * Fills the given range of the buffer with Latin-1 characters chosen
+     * uniformly at random from the alphabet. Each byte holds one character.
+     *
+     * @param buffer   to fill
+     * @param offset   index of the first character to fill
+     * @param length   number of characters to fill
+     * @param alphabet non-empty array of Latin-1 characters to choose from
+     */
+    void nextLatin1Chars(byte[] buffer, int offset, int length, byte[] alphabet);
+
+    /**
+     * Returns a new source that is statistically independent of this one.
+     * This source's state is advanced as a result.
+     *
+     * @return a new random source
+     */
+    RandomSource split();
+}
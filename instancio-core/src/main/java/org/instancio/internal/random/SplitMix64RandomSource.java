@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * An implementation of the SplitMix64 algorithm, as used by
+ * {@link java.util.SplittableRandom}.
+ * <p>
+ * See Steele, Lea and Flood, <i>Fast Splittable Pseudorandom Number Generators</i>, 2014.
+ */
+final class SplitMix64RandomSource extends AbstractRandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+    private final long gamma;
+
+    SplitMix64RandomSource(final long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMix64RandomSource(final long state, final long gamma) {
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    @Override
+    public long nextLong() {
+        state += gamma;
+        return mix64(state);
+    }
+
+    @Override
+    public RandomSource split() {
+        return new SplitMix64RandomSource(nextLong(), mixGamma(nextSeed()));
+    }
+
+    private long nextSeed() {
+        state += gamma;
+        return state;
+    }
+
+    static long mix64(final long seed) {
+        long z = seed;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(final long seed) {
+        long z = seed;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        // ensure the gamma has enough bit transitions
+        final int n = Long.bitCount(z ^ (z >>> 1));
+        return n < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
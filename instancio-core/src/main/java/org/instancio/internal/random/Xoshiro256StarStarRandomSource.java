@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+/**
+ * An implementation of the xoshiro256** algorithm by Blackman and Vigna.
+ * <p>
+ * The state is initialised from the seed using SplitMix64, as recommended
+ * by the authors. {@link #split()} returns a copy of this source and then
+ * advances this source using {@link #jump()}, so the two never overlap
+ * for the first 2<sup>128</sup> values.
+ * <p>
+ * See <a href="https://prng.di.unimi.it/">https://prng.di.unimi.it/</a>.
+ */
+final class Xoshiro256StarStarRandomSource extends AbstractRandomSource {
+
+    private static final long[] JUMP = {
+            0x180EC6D33CFD0ABAL, 0xD5A61266F0C9392CL, 0xA9582618E03FC9AAL, 0x39ABDC4529B1661CL
+    };
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    Xoshiro256StarStarRandomSource(final long seed) {
+        final SplitMix64RandomSource seeder = new SplitMix64RandomSource(seed);
+        this.s0 = seeder.nextLong();
+        this.s1 = seeder.nextLong();
+        this.s2 = seeder.nextLong();
+        this.s3 = seeder.nextLong();
+    }
+
+    Xoshiro256StarStarRandomSource(final long s0, final long s1, final long s2, final long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    @Override
+    public long nextLong() {
+        final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        final long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    @Override
+    public RandomSource split() {
+        final Xoshiro256StarStarRandomSource copy = new Xoshiro256StarStarRandomSource(s0, s1, s2, s3);
+        jump();
+        return copy;
+    }
+
+    /**
+     * Advances the state as if {@link #nextLong()} was called 2<sup>128</sup> times.
+     */
+    void jump() {
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        for (long jump : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((jump & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                    t2 ^= s2;
+                    t3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = t0;
+        s1 = t1;
+        s2 = t2;
+        s3 = t3;
+    }
+}
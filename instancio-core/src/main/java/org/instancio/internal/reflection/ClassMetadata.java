@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reflection metadata of a class, including declared and inherited
+ * non-static fields. Metadata is resolved once per class and cached
+ * in a {@link ClassValue}, so it is shared by all models and engines.
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final List<Field> fields;
+    private final List<FieldMetadata> fieldMetadata;
+
+    private ClassMetadata(final Class<?> klass) {
+        final List<Field> collectedFields = new ArrayList<>();
+        final List<FieldMetadata> collectedMetadata = new ArrayList<>();
+
+        Class<?> next = klass;
+        while (shouldCollectFrom(next)) {
+            for (Field field : next.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    collectedFields.add(field);
+                    collectedMetadata.add(new FieldMetadata(field));
+                }
+            }
+            next = next.getSuperclass();
+        }
+
+        this.fields = Collections.unmodifiableList(collectedFields);
+        this.fieldMetadata = Collections.unmodifiableList(collectedMetadata);
+    }
+
+    public static ClassMetadata of(final Class<?> klass) {
+        return CACHE.get(klass);
+    }
+
+    /**
+     * Returns declared and inherited non-static fields. Fields of JDK classes are not included.
+     *
+     * @return an unmodifiable list of fields
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns metadata of the fields returned by {@link #getFields()}, in the same order.
+     *
+     * @return an unmodifiable list of field metadata
+     */
+    public List<FieldMetadata> getFieldMetadata() {
+        return fieldMetadata;
+    }
+
+    private static boolean shouldCollectFrom(final Class<?> next) {
+        if (next == null || next.isInterface() || next.isArray() || next == Object.class) {
+            return false;
+        }
+
+        final Package pkg = next.getPackage();
+        return pkg != null && !pkg.getName().startsWith("java");
+    }
+}
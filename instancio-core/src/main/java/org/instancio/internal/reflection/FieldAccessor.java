@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.util.Sonar;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sets field values using a {@link MethodHandle} created once per field.
+ * <p>
+ * Accessors are cached per declaring class. If a method handle cannot be created
+ * (for example, for some {@code final} fields), values are set using reflection.
+ * Before invoking the method handle, the target and value are checked against
+ * the field's declaring class and type (its wrapper type for primitive fields).
+ * Values that do not match exactly, for example, primitives that need to be
+ * widened, {@code null} values of primitive fields, or values of incompatible
+ * types, are set using reflection, which converts the value or reports an error.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<Field, FieldAccessor>> ACCESSORS = new ClassValue<Map<Field, FieldAccessor>>() {
+        @Override
+        protected Map<Field, FieldAccessor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+    private final Class<?> declaringClass;
+    private final Class<?> valueType;
+    private final boolean primitive;
+    private final MethodHandle setter;
+
+    private FieldAccessor(final Field field) {
+        this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.primitive = field.getType().isPrimitive();
+        this.valueType = MethodType.methodType(field.getType()).wrap().returnType();
+        this.setter = createSetter(field);
+    }
+
+    /**
+     * Returns a cached accessor for the given field.
+     *
+     * @param field to get an accessor for
+     * @return field accessor
+     */
+    public static FieldAccessor of(final Field field) {
+        final Map<Field, FieldAccessor> accessors = ACCESSORS.get(field.getDeclaringClass());
+        final FieldAccessor accessor = accessors.get(field);
+        return accessor != null ? accessor : accessors.computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
+    @Nullable
+    private static MethodHandle createSetter(final Field field) {
+        field.setAccessible(true);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Sets the field of the given target object to the specified value.
+     *
+     * @param target object containing the field
+     * @param value  to set
+     */
+    @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
+    public void set(final Object target, @Nullable final Object value) {
+        if (setter == null || !isExactMatch(target, value)) {
+            setUsingReflection(target, value);
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InstancioException("Could not set value to the field: " + field, ex);
+        }
+    }
+
+    private boolean isExactMatch(final Object target, @Nullable final Object value) {
+        if (!declaringClass.isInstance(target)) {
+            return false;
+        }
+        if (value == null) {
+            return !primitive;
+        }
+        // primitives are only unboxed by the method handle, not widened
+        return primitive ? value.getClass() == valueType : valueType.isInstance(value);
+    }
+
+    private void setUsingReflection(final Object target, @Nullable final Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException ex) {
+            throw new InstancioException("Could not set value to the field: " + field, ex);
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+}
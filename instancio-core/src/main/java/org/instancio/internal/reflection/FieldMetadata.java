@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+/**
+ * Reflection metadata of a field, resolved once and cached by {@link ClassMetadata}.
+ */
+public final class FieldMetadata {
+
+    private final Field field;
+    private final Class<?> type;
+    private final Type genericType;
+
+    FieldMetadata(final Field field) {
+        this.field = field;
+        this.type = field.getType();
+        this.genericType = field.getGenericType();
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FieldMetadata[%s]", field);
+    }
+}
@@ -15,27 +15,64 @@
  */
 package org.instancio.internal.reflection;
 
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Resolves an implementation of an interface or abstract class if it has
+ * exactly one subtype on the classpath.
+ * <p>
+ * Subtypes are looked up in prebuilt index files (if present). Types that
+ * are not covered by a prebuilt index are looked up in a process-wide
+ * {@link SubtypeIndex} built by scanning the classpath, which happens
+ * lazily when such a type is first resolved. Resolved implementations are
+ * cached. The indexes and the cache can be discarded using {@link #refresh()}.
+ */
 public class InterfaceImplementationResolver implements ImplementationResolver {
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceImplementationResolver.class);
 
+    private static final Map<Class<?>, Optional<Class<?>>> RESOLVED = new ConcurrentHashMap<>();
+    private static final SubtypeIndex NO_PREBUILT_INDEX = new SubtypeIndex(Collections.emptyMap());
+
+    private static volatile SubtypeIndex prebuiltIndex;
+    private static volatile SubtypeIndex scannedIndex;
+
     @Override
-    public Optional<Class<?>> resolve(Class<?> interfaceClass) {
-        try {
-            Reflections reflections = new Reflections(
-                    new ConfigurationBuilder()
-                            .setUrls(ClasspathHelper.forJavaClassPath()));
+    public Optional<Class<?>> resolve(final Class<?> interfaceClass) {
+        return RESOLVED.computeIfAbsent(interfaceClass, InterfaceImplementationResolver::resolveImplementation);
+    }
+
+    /**
+     * Discards the subtype indexes and resolved implementations.
+     * The indexes will be rebuilt on next resolution.
+     */
+    public static synchronized void refresh() {
+        prebuiltIndex = null;
+        scannedIndex = null;
+        RESOLVED.clear();
+    }
 
+    private static Optional<Class<?>> resolveImplementation(final Class<?> interfaceClass) {
+        try {
+            final ClassLoader classLoader = getClassLoader(interfaceClass);
+            final Set<String> names = getSubtypeNames(classLoader, interfaceClass.getName());
+            final List<Class<?>> implementors = new ArrayList<>(names.size());
 
-            final Set<Class<?>> implementors = reflections.getSubTypesOf((Class<Object>) interfaceClass);
+            for (String name : names) {
+                try {
+                    implementors.add(Class.forName(name, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError ex) {
+                    LOG.trace("Could not load class '{}'", name, ex);
+                }
+            }
 
             if (implementors.size() != 1) {
                 LOG.debug("Found {} implementors for class {}: {}. Will not instantiate.",
@@ -44,12 +81,57 @@ public class InterfaceImplementationResolver implements ImplementationResolver {
                 return Optional.empty();
             }
 
-            return Optional.of(implementors.iterator().next());
-
+            return Optional.of(implementors.get(0));
 
         } catch (Exception e) {
             LOG.debug("Error resolving interface '{}' implementation", interfaceClass.getName());
             return Optional.empty();
         }
     }
+
+    private static Set<String> getSubtypeNames(final ClassLoader classLoader, final String supertype) {
+        final SubtypeIndex prebuilt = getPrebuiltIndex(classLoader);
+        if (prebuilt.contains(supertype)) {
+            return prebuilt.getSubtypeNames(supertype);
+        }
+        return getScannedIndex().getSubtypeNames(supertype);
+    }
+
+    private static SubtypeIndex getPrebuiltIndex(final ClassLoader classLoader) {
+        SubtypeIndex index = prebuiltIndex;
+        if (index == null) {
+            synchronized (InterfaceImplementationResolver.class) {
+                index = prebuiltIndex;
+                if (index == null) {
+                    index = SubtypeIndex.loadPrebuilt(classLoader).orElse(NO_PREBUILT_INDEX);
+                    prebuiltIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static SubtypeIndex getScannedIndex() {
+        SubtypeIndex index = scannedIndex;
+        if (index == null) {
+            synchronized (InterfaceImplementationResolver.class) {
+                index = scannedIndex;
+                if (index == null) {
+                    index = SubtypeIndex.scanClasspath();
+                    scannedIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static ClassLoader getClassLoader(final Class<?> interfaceClass) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            return contextClassLoader;
+        }
+        return interfaceClass.getClassLoader() != null
+                ? interfaceClass.getClassLoader()
+                : InterfaceImplementationResolver.class.getClassLoader();
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An immutable index of direct subtypes keyed by supertype name.
+ * <p>
+ * The index is either built by scanning the classpath or loaded from
+ * prebuilt index files located at {@value #PREBUILT_INDEX_LOCATION}.
+ * An index file is a properties file that maps a fully-qualified supertype name
+ * to a comma-separated list of its direct subtypes, for example:
+ *
+ * <pre>
+ *     org.example.Widget=org.example.WidgetImpl
+ * </pre>
+ * <p>
+ * An index file can be generated using {@link #store(Writer)}.
+ */
+public final class SubtypeIndex {
+    private static final Logger LOG = LoggerFactory.getLogger(SubtypeIndex.class);
+
+    public static final String PREBUILT_INDEX_LOCATION = "META-INF/instancio/subtype-index.properties";
+
+    private static final String SEPARATOR = ",";
+
+    private final Map<String, Set<String>> directSubtypes;
+
+    SubtypeIndex(final Map<String, Set<String>> directSubtypes) {
+        this.directSubtypes = Collections.unmodifiableMap(directSubtypes);
+    }
+
+    /**
+     * Builds an index by scanning the java class path.
+     *
+     * @return subtype index
+     */
+    public static SubtypeIndex scanClasspath() {
+        final long start = System.currentTimeMillis();
+        final Reflections reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forJavaClassPath())
+                .setScanners(Scanners.SubTypes));
+
+        final Map<String, Set<String>> subtypes = new HashMap<>(
+                reflections.getStore().getOrDefault(Scanners.SubTypes.index(), Collections.emptyMap()));
+
+        LOG.debug("Indexed subtypes of {} types in {} ms", subtypes.size(), System.currentTimeMillis() - start);
+        return new SubtypeIndex(subtypes);
+    }
+
+    /**
+     * Loads and merges all prebuilt index files visible to the given class loader.
+     *
+     * @param classLoader to load index files with
+     * @return subtype index, or an empty result if no index files were found
+     */
+    public static Optional<SubtypeIndex> loadPrebuilt(final ClassLoader classLoader) {
+        final Map<String, Set<String>> subtypes = new HashMap<>();
+        boolean found = false;
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(PREBUILT_INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                try (InputStream inputStream = url.openStream()) {
+                    merge(subtypes, inputStream);
+                }
+                LOG.debug("Loaded prebuilt subtype index: {}", url);
+                found = true;
+            }
+        } catch (IOException ex) {
+            LOG.debug("Error loading prebuilt subtype index", ex);
+            return Optional.empty();
+        }
+        return found ? Optional.of(new SubtypeIndex(subtypes)) : Optional.empty();
+    }
+
+    static SubtypeIndex load(final InputStream inputStream) throws IOException {
+        final Map<String, Set<String>> subtypes = new HashMap<>();
+        merge(subtypes, inputStream);
+        return new SubtypeIndex(subtypes);
+    }
+
+    private static void merge(final Map<String, Set<String>> subtypes, final InputStream inputStream) throws IOException {
+        final Properties properties = new Properties();
+        properties.load(inputStream);
+
+        for (String supertype : properties.stringPropertyNames()) {
+            final Set<String> names = subtypes.computeIfAbsent(supertype.trim(), k -> new LinkedHashSet<>());
+            for (String name : properties.getProperty(supertype).split(SEPARATOR)) {
+                if (!name.trim().isEmpty()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns names of all direct and indirect subtypes of the given type.
+     *
+     * @param supertype name of the supertype
+     * @return subtype names, or an empty set if none were indexed
+     */
+    public Set<String> getSubtypeNames(final String supertype) {
+        final Set<String> results = new LinkedHashSet<>();
+        final Deque<String> queue = new ArrayDeque<>();
+        queue.add(supertype);
+
+        while (!queue.isEmpty()) {
+            final Set<String> subtypes = directSubtypes.get(queue.poll());
+            if (subtypes == null) continue;
+
+            for (String subtype : subtypes) {
+                if (results.add(subtype)) {
+                    queue.add(subtype);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns {@code true} if this index contains an entry for the given type.
+     *
+     * @param supertype name of the supertype
+     * @return {@code true} if the type's subtypes were indexed
+     */
+    public boolean contains(final String supertype) {
+        return directSubtypes.containsKey(supertype);
+    }
+
+    public int size() {
+        return directSubtypes.size();
+    }
+
+    /**
+     * Writes this index in the format expected by {@link #loadPrebuilt(ClassLoader)}.
+     *
+     * @param writer to write the index to
+     * @throws IOException if an error occurs writing the index
+     */
+    public void store(final Writer writer) throws IOException {
+        for (Map.Entry<String, Set<String>> entry : new TreeMap<>(directSubtypes).entrySet()) {
+            writer.write(entry.getKey());
+            writer.write('=');
+            writer.write(String.join(SEPARATOR, entry.getValue()));
+            writer.write(System.lineSeparator());
+        }
+        writer.flush();
+    }
+}
@@ -15,7 +15,21 @@
  */
 package org.instancio.internal.reflection.instantiation;
 
+import org.objenesis.instantiator.ObjectInstantiator;
+
 public interface InstantiationStrategy {
 
-    <T> T createInstance(Class<T> klass);
+    /**
+     * Returns an instantiator that can be reused for creating instances of the given class.
+     *
+     * @param klass to create an instantiator for
+     * @param <T>   type to instantiate
+     * @return object instantiator
+     * @throws InstantiationStrategyException if the class cannot be instantiated using this strategy
+     */
+    <T> ObjectInstantiator<T> getInstantiator(Class<T> klass);
+
+    default <T> T createInstance(Class<T> klass) {
+        return getInstantiator(klass).newInstance();
+    }
 }
@@ -17,26 +17,68 @@ package org.instancio.internal.reflection.instantiation;
 
 
 import org.instancio.util.Sonar;
+import org.objenesis.instantiator.ObjectInstantiator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Instantiates classes using the first successful {@link InstantiationStrategy}.
+ * <p>
+ * The instantiator obtained from the successful strategy is memoized per class
+ * and shared across instances of this class, so that strategies are only
+ * tried (and may fail) when a class is instantiated for the first time.
+ * Failures are not memoized: if no strategy succeeds, they are all tried
+ * again the next time the class is instantiated.
+ */
 public class Instantiator {
     private static final Logger LOG = LoggerFactory.getLogger(Instantiator.class);
 
-    private final List<InstantiationStrategy> strategies = new ArrayList<>();
+    private static final ClassValue<AtomicReference<ObjectInstantiator<?>>> RESOLVED_INSTANTIATORS =
+            new ClassValue<AtomicReference<ObjectInstantiator<?>>>() {
+                @Override
+                protected AtomicReference<ObjectInstantiator<?>> computeValue(final Class<?> type) {
+                    return new AtomicReference<>();
+                }
+            };
+
+    private final List<InstantiationStrategy> strategies;
 
     public Instantiator() {
-        strategies.add(new NoArgumentConstructorInstantiationStrategy());
-        strategies.add(new ObjenesisInstantiationStrategy());
+        this(Arrays.asList(
+                new NoArgumentConstructorInstantiationStrategy(),
+                new ObjenesisInstantiationStrategy()));
     }
 
+    Instantiator(final List<InstantiationStrategy> strategies) {
+        this.strategies = strategies;
+    }
+
+    @SuppressWarnings({"unchecked", Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE})
     public <T> T instantiate(Class<T> klass) {
+        final AtomicReference<ObjectInstantiator<?>> resolved = RESOLVED_INSTANTIATORS.get(klass);
+        final ObjectInstantiator<?> instantiator = resolved.get();
+
+        if (instantiator != null) {
+            try {
+                return (T) instantiator.newInstance();
+            } catch (Throwable ex) {
+                LOG.trace("Memoized instantiator failed instantiating class '{}'", klass.getName(), ex);
+            }
+        }
+
+        return resolveAndInstantiate(klass, resolved);
+    }
+
+    private <T> T resolveAndInstantiate(final Class<T> klass, final AtomicReference<ObjectInstantiator<?>> resolved) {
         for (InstantiationStrategy strategy : strategies) {
-            final T instance = createInstance(klass, strategy);
+            final ObjectInstantiator<T> instantiator = getInstantiator(klass, strategy);
+            final T instance = instantiator == null ? null : createInstance(klass, instantiator, strategy);
             if (instance != null) {
+                resolved.compareAndSet(null, instantiator);
                 return instance;
             }
         }
@@ -46,9 +88,21 @@ public class Instantiator {
     }
 
     @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
-    private <T> T createInstance(final Class<T> klass, final InstantiationStrategy strategy) {
+    private static <T> ObjectInstantiator<T> getInstantiator(final Class<T> klass, final InstantiationStrategy strategy) {
+        try {
+            return strategy.getInstantiator(klass);
+        } catch (Throwable ex) {
+            LOG.trace("'{}' failed instantiating class '{}'", strategy.getClass().getSimpleName(), klass.getName(), ex);
+        }
+        return null;
+    }
+
+    @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
+    private static <T> T createInstance(final Class<T> klass,
+                                        final ObjectInstantiator<T> instantiator,
+                                        final InstantiationStrategy strategy) {
         try {
-            return strategy.createInstance(klass);
+            return instantiator.newInstance();
         } catch (Throwable ex) {
             LOG.trace("'{}' failed instantiating class '{}'", strategy.getClass().getSimpleName(), klass.getName(), ex);
         }
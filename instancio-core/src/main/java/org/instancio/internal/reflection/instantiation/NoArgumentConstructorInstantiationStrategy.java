@@ -16,21 +16,35 @@
 package org.instancio.internal.reflection.instantiation;
 
 import org.instancio.util.Sonar;
+import org.objenesis.instantiator.ObjectInstantiator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 
 public class NoArgumentConstructorInstantiationStrategy implements InstantiationStrategy {
 
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
     @Override
-    @SuppressWarnings({"unchecked", Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED})
-    public <T> T createInstance(final Class<T> klass) {
+    @SuppressWarnings({"unchecked", Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED, Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE})
+    public <T> ObjectInstantiator<T> getInstantiator(final Class<T> klass) {
+        final MethodHandle handle;
         try {
             final Constructor<?> ctor = klass.getDeclaredConstructor();
             ctor.setAccessible(true);
-            return (T) ctor.newInstance();
+            handle = MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
         } catch (Exception ex) {
             throw new InstantiationStrategyException("Error instantiating " + klass, ex);
         }
-    }
 
+        return () -> {
+            try {
+                return (T) handle.invokeExact();
+            } catch (Throwable ex) {
+                throw new InstantiationStrategyException("Error instantiating " + klass, ex);
+            }
+        };
+    }
 }
@@ -19,19 +19,13 @@ import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
 import org.objenesis.instantiator.ObjectInstantiator;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class ObjenesisInstantiationStrategy implements InstantiationStrategy {
 
-    private final Objenesis objenesis = new ObjenesisStd();
-    private final Map<Class<?>, ObjectInstantiator<?>> cache = new HashMap<>();
+    // caches instantiators internally in a thread-safe manner
+    private static final Objenesis OBJENESIS = new ObjenesisStd(true);
 
     @Override
-    @SuppressWarnings("unchecked")
-    public <T> T createInstance(final Class<T> klass) {
-        ObjectInstantiator<?> instantiator = cache.computeIfAbsent(klass, objenesis::getInstantiatorOf);
-        return (T) instantiator.newInstance();
+    public <T> ObjectInstantiator<T> getInstantiator(final Class<T> klass) {
+        return OBJENESIS.getInstantiatorOf(klass);
     }
-
 }
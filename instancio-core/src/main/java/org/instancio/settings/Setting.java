@@ -27,6 +27,14 @@ public enum Setting implements SettingKey {
     ARRAY_MAX_LENGTH("array.max.length", Integer.class, Constants.MAX_SIZE),
     ARRAY_MIN_LENGTH("array.min.length", Integer.class, Constants.MIN_SIZE),
     ARRAY_NULLABLE("array.nullable", Boolean.class, false),
+    /**
+     * Whether a field whose type matches an object it is nested in should
+     * reference that object instead of a newly generated one. For example,
+     * the {@code parent} field of a child would reference the parent that
+     * contains the child. This closes cycles in bidirectional relationships.
+     * It is disabled by default.
+     */
+    BACK_REFERENCES("back.references", Boolean.class, false),
     BOOLEAN_NULLABLE("boolean.nullable", Boolean.class, false),
     BYTE_MAX("byte.max", Byte.class, (byte) 127),
     BYTE_MIN("byte.min", Byte.class, (byte) 1),
@@ -36,6 +44,15 @@ public enum Setting implements SettingKey {
     COLLECTION_MAX_SIZE("collection.max.size", Integer.class, Constants.MAX_SIZE),
     COLLECTION_MIN_SIZE("collection.min.size", Integer.class, Constants.MIN_SIZE),
     COLLECTION_NULLABLE("collection.nullable", Boolean.class, false),
+    /**
+     * Whether nested objects are populated depth-first instead of breadth-first.
+     * Depth-first population completes each object before moving on to its
+     * siblings, so {@code onComplete} callbacks are invoked sooner and the number
+     * of objects waiting to be populated grows with the depth of the object graph
+     * rather than its width. The two orders produce different values for the same seed.
+     * It is disabled by default.
+     */
+    DEPTH_FIRST("depth.first", Boolean.class, false),
     DOUBLE_MAX("double.max", Double.class, (double) Constants.NUMERIC_MAX),
     DOUBLE_MIN("double.min", Double.class, 1d),
     DOUBLE_NULLABLE("double.nullable", Boolean.class, false),
@@ -53,13 +70,45 @@ public enum Setting implements SettingKey {
     MAP_MIN_SIZE("map.min.size", Integer.class, Constants.MIN_SIZE),
     MAP_NULLABLE("map.nullable", Boolean.class, false),
     MAP_VALUES_NULLABLE("map.values.nullable", Boolean.class, false),
+    /**
+     * Maximum depth of generated objects, where the root object's fields are at depth {@code 1},
+     * and collection, map, and array elements are one level below the container.
+     * Values below the maximum depth are set to {@code null} and containers
+     * at the maximum depth are not populated. It is disabled by default ({@code 0}).
+     */
+    MAX_DEPTH("max.depth", Integer.class, 0),
+    /**
+     * Maximum estimated size, in bytes, of the objects generated for a single root object.
+     * Estimates are based on shallow object sizes with compressed references.
+     * Once the limit is reached, container sizes are reduced and remaining values are
+     * set to {@code null}. It is disabled by default ({@code 0}).
+     */
+    MAX_ESTIMATED_BYTES("max.estimated.bytes", Long.class, 0L),
+    /**
+     * Maximum number of values generated for a single root object, including
+     * collection, map, and array elements. Once the limit is reached, container sizes
+     * are reduced and remaining values are set to {@code null}.
+     * It is disabled by default ({@code 0}).
+     */
+    MAX_NODES("max.nodes", Integer.class, 0),
+    /**
+     * Random number generation algorithm: {@code JDK} (default),
+     * {@code SPLITMIX64}, or {@code XOSHIRO256_STAR_STAR}.
+     */
+    RANDOM_ALGORITHM("random.algorithm", String.class, "JDK"),
     SHORT_MAX("short.max", Short.class, (short) Constants.NUMERIC_MAX),
     SHORT_MIN("short.min", Short.class, (short) 1),
     SHORT_NULLABLE("short.nullable", Boolean.class, false),
     STRING_ALLOW_EMPTY("string.allow.empty", Boolean.class, false),
     STRING_MAX_LENGTH("string.max.length", Integer.class, 10),
     STRING_MIN_LENGTH("string.min.length", Integer.class, 3),
-    STRING_NULLABLE("string.nullable", Boolean.class, false);
+    STRING_NULLABLE("string.nullable", Boolean.class, false),
+    /**
+     * Number of values in the pool that generated strings are drawn from.
+     * Pooling reduces the number of distinct string instances when generating
+     * large amounts of data. It is disabled by default ({@code 0}).
+     */
+    STRING_POOL_SIZE("string.pool.size", Integer.class, 0);
 
     private final String key;
     private final Class<?> type;
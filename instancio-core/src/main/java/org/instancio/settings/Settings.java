@@ -32,6 +32,10 @@ import static org.instancio.internal.InstancioValidator.validateSubtypeMapping;
 
 /**
  * Instancio settings API.
+ * <p>
+ * Merging other settings into locked settings does not copy the locked
+ * settings. Instead, the result is an overlay that contains only the
+ * merged values and falls back to the locked settings for everything else.
  */
 public class Settings {
     private static final String TYPE_MAPPING_PREFIX = "type.mapping.";
@@ -39,10 +43,19 @@ public class Settings {
     private boolean isLockedForModifications;
     private Map<Object, Object> settingsMap;
     private Map<Class<?>, Class<?>> subtypeMap;
+    private final Settings parent;
+
+    // created on first use, since locked settings cannot change
+    private volatile Settings flattened;
 
     private Settings() {
+        this(null);
+    }
+
+    private Settings(@Nullable final Settings parent) {
         this.settingsMap = new HashMap<>();
         this.subtypeMap = new HashMap<>();
+        this.parent = parent;
     }
 
     /**
@@ -100,8 +113,7 @@ public class Settings {
      */
     public static Settings from(final Settings other) {
         final Settings settings = new Settings();
-        settings.settingsMap.putAll(other.settingsMap);
-        settings.subtypeMap.putAll(other.subtypeMap);
+        other.copyTo(settings);
         return settings;
     }
 
@@ -112,17 +124,34 @@ public class Settings {
      * @return new instance of merged settings
      */
     public Settings merge(@Nullable final Settings other) {
-        final Settings merged = Settings.create();
-        merged.settingsMap.putAll(settingsMap);
-        merged.subtypeMap.putAll(subtypeMap);
+        final Settings merged;
+        if (isLockedForModifications) {
+            // locked settings cannot change, so they can be referenced instead of copied
+            merged = new Settings(this);
+        } else if (parent != null) {
+            // the parent of an overlay is locked, so only the overlay's own values are copied
+            merged = new Settings(parent);
+            merged.settingsMap.putAll(settingsMap);
+            merged.subtypeMap.putAll(subtypeMap);
+        } else {
+            merged = Settings.create();
+            copyTo(merged);
+        }
 
         if (other != null) {
-            merged.settingsMap.putAll(other.settingsMap);
-            merged.subtypeMap.putAll(other.subtypeMap);
+            other.copyTo(merged);
         }
         return merged;
     }
 
+    private void copyTo(final Settings target) {
+        if (parent != null) {
+            parent.copyTo(target);
+        }
+        target.settingsMap.putAll(settingsMap);
+        target.subtypeMap.putAll(subtypeMap);
+    }
+
     /**
      * Get setting value for given key.
      *
@@ -132,7 +161,13 @@ public class Settings {
      */
     @SuppressWarnings("unchecked")
     public <T> T get(final SettingKey key) {
-        return (T) settingsMap.get(Verify.notNull(key, "Key must not be null"));
+        Verify.notNull(key, "Key must not be null");
+        final Settings flat = flattened;
+        if (flat != null) {
+            return (T) flat.settingsMap.get(key);
+        }
+        final Object value = settingsMap.get(key);
+        return value == null && parent != null ? parent.get(key) : (T) value;
     }
 
     /**
@@ -169,7 +204,10 @@ public class Settings {
      * @return subtype map
      */
     public Map<Class<?>, Class<?>> getSubtypeMap() {
-        return Collections.unmodifiableMap(subtypeMap);
+        if (parent == null) {
+            return Collections.unmodifiableMap(subtypeMap);
+        }
+        return Collections.unmodifiableMap(flatten().subtypeMap);
     }
 
     /**
@@ -179,6 +217,9 @@ public class Settings {
      * @return read-only settings
      */
     public Settings lock() {
+        if (isLockedForModifications) {
+            return this;
+        }
         settingsMap = Collections.unmodifiableMap(settingsMap);
         subtypeMap = Collections.unmodifiableMap(subtypeMap);
         isLockedForModifications = true;
@@ -191,12 +232,32 @@ public class Settings {
         }
     }
 
+    /**
+     * Returns settings that contain all values of this overlay chain without a parent.
+     * Locked overlays are flattened once, on first use.
+     */
+    private Settings flatten() {
+        if (parent == null) {
+            return this;
+        }
+        if (!isLockedForModifications) {
+            return Settings.from(this);
+        }
+        Settings flat = flattened;
+        if (flat == null) {
+            flat = Settings.from(this).lock();
+            flattened = flat;
+        }
+        return flat;
+    }
+
     @Override
     public String toString() {
+        final Settings flat = flatten();
         return "Settings[" +
                 "\nisLockedForModifications: " + isLockedForModifications +
-                "\nsettingsMap:" + mapToString(new TreeMap<>(settingsMap)) +
-                "\nsubtypeMap:" + mapToString(subtypeMap);
+                "\nsettingsMap:" + mapToString(new TreeMap<>(flat.settingsMap)) +
+                "\nsubtypeMap:" + mapToString(flat.subtypeMap);
     }
 
     private static String mapToString(Map<?, ?> map) {
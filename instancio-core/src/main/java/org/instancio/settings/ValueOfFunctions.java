@@ -32,6 +32,7 @@ class ValueOfFunctions {
         fnMap.put(Long.class, Long::valueOf);
         fnMap.put(Float.class, Float::valueOf);
         fnMap.put(Double.class, Double::valueOf);
+        fnMap.put(String.class, String::valueOf);
         return Collections.unmodifiableMap(fnMap);
     }
 
@@ -16,7 +16,7 @@
 package org.instancio.util;
 
 import org.instancio.exception.InstancioApiException;
-import org.instancio.exception.InstancioException;
+import org.instancio.internal.reflection.FieldAccessor;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
@@ -32,17 +32,11 @@ public class ReflectionUtils {
         // non-instantiable
     }
 
-    @SuppressWarnings(Sonar.ACCESSIBILITY_UPDATE_SHOULD_BE_REMOVED)
     public static void setField(Object target, Field field, Object value) {
         if (target == null) {
             return;
         }
-        try {
-            field.setAccessible(true);
-            field.set(target, value);
-        } catch (IllegalAccessException ex) {
-            throw new InstancioException("Could not set value to the field: " + field, ex);
-        }
+        FieldAccessor.of(field).set(target, value);
     }
 
     public static Field getField(final Class<?> klass, final String fieldPath) {
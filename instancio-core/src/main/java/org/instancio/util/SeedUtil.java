@@ -22,6 +22,8 @@ public final class SeedUtil {
 
     private static final Random random = new SecureRandom();
 
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
     private SeedUtil() {
         // non-instantiable
     }
@@ -29,4 +31,24 @@ public final class SeedUtil {
     public static int randomSeed() {
         return random.nextInt(Integer.MAX_VALUE);
     }
+
+    /**
+     * Derives a seed for an element at the given index from a base seed.
+     * <p>
+     * The derived seed is the {@code index}-th output of a SplitMix64 generator
+     * initialised with the base seed, therefore it depends only on the two
+     * arguments and not on the order in which seeds are derived. All 64 bits
+     * are kept, so that seeds of different elements are unlikely to collide
+     * even when deriving millions of them.
+     *
+     * @param baseSeed base seed
+     * @param index    element index
+     * @return derived seed
+     */
+    public static long deriveSeed(final int baseSeed, final long index) {
+        long z = baseSeed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
 }
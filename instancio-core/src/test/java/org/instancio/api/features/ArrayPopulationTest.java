@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.features;
+
+import org.instancio.Instancio;
+import org.instancio.pojo.arrays.primitive.WithBooleanArray;
+import org.instancio.pojo.arrays.primitive.WithByteArray;
+import org.instancio.pojo.arrays.primitive.WithCharArray;
+import org.instancio.pojo.arrays.primitive.WithDoubleArray;
+import org.instancio.pojo.arrays.primitive.WithFloatArray;
+import org.instancio.pojo.arrays.primitive.WithIntArray;
+import org.instancio.pojo.arrays.primitive.WithLongArray;
+import org.instancio.pojo.arrays.primitive.WithShortArray;
+import org.instancio.pojo.arrays.object.WithIntegerArray;
+import org.instancio.pojo.arrays.object.WithStringArray;
+import org.instancio.pojo.collections.lists.ListInteger;
+import org.instancio.pojo.collections.lists.ListLong;
+import org.instancio.pojo.collections.lists.ListString;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Bindings.all;
+import static org.instancio.Bindings.field;
+
+/**
+ * Arrays and collections of values without fields, such as primitives,
+ * their wrappers, strings and UUIDs, are populated in bulk unless
+ * their elements are customised. Registering a callback for the element type
+ * disables bulk population without affecting generated values, which allows
+ * verifying that both paths produce the same arrays.
+ */
+class ArrayPopulationTest {
+
+    private static final int SEED = 8264;
+
+    private static Stream<Arguments> arrayTypes() {
+        return Stream.of(
+                Arguments.of(WithBooleanArray.class, boolean.class),
+                Arguments.of(WithByteArray.class, byte.class),
+                Arguments.of(WithCharArray.class, char.class),
+                Arguments.of(WithDoubleArray.class, double.class),
+                Arguments.of(WithFloatArray.class, float.class),
+                Arguments.of(WithIntArray.class, int.class),
+                Arguments.of(WithLongArray.class, long.class),
+                Arguments.of(WithShortArray.class, short.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithBooleanArray.class, Boolean.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithByteArray.class, Byte.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithCharacterArray.class, Character.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithDoubleArray.class, Double.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithFloatArray.class, Float.class),
+                Arguments.of(WithIntegerArray.class, Integer.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithLongArray.class, Long.class),
+                Arguments.of(org.instancio.pojo.arrays.object.WithShortArray.class, Short.class),
+                Arguments.of(WithStringArray.class, String.class),
+                Arguments.of(ListInteger.class, Integer.class),
+                Arguments.of(ListLong.class, Long.class),
+                Arguments.of(ListString.class, String.class),
+                Arguments.of(SetUUID.class, UUID.class));
+    }
+
+    @MethodSource("arrayTypes")
+    @ParameterizedTest
+    void bulkPopulatedArrayShouldMatchElementByElement(final Class<?> pojoClass, final Class<?> elementClass) {
+        final Settings settings = Settings.create()
+                .set(Setting.ARRAY_MIN_LENGTH, 50)
+                .set(Setting.ARRAY_MAX_LENGTH, 100)
+                .set(Setting.COLLECTION_MIN_SIZE, 50)
+                .set(Setting.COLLECTION_MAX_SIZE, 100);
+
+        assertSameResult(pojoClass, elementClass, settings);
+    }
+
+    @MethodSource("arrayTypes")
+    @ParameterizedTest
+    void bulkPopulatedArrayWithNullableElementsShouldMatchElementByElement(final Class<?> pojoClass, final Class<?> elementClass) {
+        final Settings settings = Settings.create()
+                .set(Setting.ARRAY_ELEMENTS_NULLABLE, true)
+                .set(Setting.BOOLEAN_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.BYTE_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.CHARACTER_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.DOUBLE_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.FLOAT_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.INTEGER_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.LONG_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.SHORT_NULLABLE, !elementClass.isPrimitive())
+                .set(Setting.STRING_NULLABLE, true)
+                .set(Setting.COLLECTION_ELEMENTS_NULLABLE, true);
+
+        assertSameResult(pojoClass, elementClass, settings);
+    }
+
+    @Test
+    void withElements() {
+        final Integer[] expectedElements = {-1, -2, -3};
+
+        final WithIntArray bulk = Instancio.of(WithIntArray.class)
+                .withSeed(SEED)
+                .generate(field("values"), gen -> gen.array().length(20).with(expectedElements))
+                .create();
+
+        final WithIntArray elementByElement = Instancio.of(WithIntArray.class)
+                .withSeed(SEED)
+                .generate(field("values"), gen -> gen.array().length(20).with(expectedElements))
+                .onComplete(all(int.class), value -> {
+                })
+                .create();
+
+        assertThat(bulk.getValues()).hasSize(23).contains(-1, -2, -3);
+        assertThat(bulk.getValues()).containsExactly(elementByElement.getValues());
+    }
+
+    static class SetUUID {
+        private Set<UUID> values;
+    }
+
+    private static void assertSameResult(final Class<?> pojoClass, final Class<?> elementClass, final Settings settings) {
+        final Object bulk = Instancio.of(pojoClass)
+                .withSeed(SEED)
+                .withSettings(settings)
+                .create();
+
+        final Object elementByElement = Instancio.of(pojoClass)
+                .withSeed(SEED)
+                .withSettings(settings)
+                .onComplete(all(elementClass), value -> {
+                })
+                .create();
+
+        assertThat(bulk).usingRecursiveComparison().isEqualTo(elementByElement);
+    }
+}
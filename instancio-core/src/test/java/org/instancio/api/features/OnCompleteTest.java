@@ -25,6 +25,10 @@ import org.instancio.pojo.person.Pet;
 import org.instancio.pojo.person.Phone;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.instancio.Bindings.all;
 
@@ -88,6 +92,49 @@ class OnCompleteTest {
         assertThat(result.getArray()).allSatisfy(OnCompleteTest::assertPerson);
     }
 
+    @Test
+    void containerCallbackIsInvokedOnce() {
+        final AtomicInteger listCallbacks = new AtomicInteger();
+        final AtomicInteger arrayCallbacks = new AtomicInteger();
+
+        final ListPerson result = Instancio.of(ListPerson.class)
+                .onComplete(all(List.class), (List<?> list) -> listCallbacks.incrementAndGet())
+                .onComplete(all(Pet[].class), (Pet[] pets) -> arrayCallbacks.incrementAndGet())
+                .create();
+
+        // ListPerson.list, and Address.phoneNumbers and Person.pets of each person
+        assertThat(listCallbacks.get()).isEqualTo(result.getList().size() + 1);
+        assertThat(arrayCallbacks.get()).isEqualTo(result.getList().size());
+    }
+
+    @Test
+    void callbackIsInvokedWithCompletedObject() {
+        final List<Object> invoked = new ArrayList<>();
+        final Person result = Instancio.of(Person.class)
+                .onComplete(all(Phone.class), (Phone phone) -> {
+                    invoked.add(phone);
+                    phone.setCountryCode(COUNTRY_CODE);
+                })
+                .onComplete(all(Person.class), (Person person) -> {
+                    // nested objects have been populated and their callbacks invoked
+                    assertThat(person.getAddress().getCity()).isNotNull();
+                    assertThat(person.getAddress().getPhoneNumbers()).isNotEmpty().allSatisfy(
+                            phone -> assertThat(phone.getCountryCode()).isEqualTo(COUNTRY_CODE));
+                    invoked.add(person);
+                })
+                .create();
+
+        assertThat(invoked).hasSize(result.getAddress().getPhoneNumbers().size() + 1);
+        assertThat(invoked.get(invoked.size() - 1)).isSameAs(result);
+    }
+
+    @Test
+    void withoutCallbacks() {
+        final Person result = Instancio.create(Person.class);
+
+        assertThat(result.getAddress().getPhoneNumbers()).isNotEmpty();
+    }
+
     private static void assertPerson(final Person result) {
         assertThat(result.getAddress().getPhoneNumbers()).allSatisfy(
                 phone -> assertThat(phone.getCountryCode()).isEqualTo(COUNTRY_CODE));
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.features;
+
+import org.instancio.Instancio;
+import org.instancio.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Bindings.all;
+
+class ParallelStreamTest {
+
+    private static final int SEED = 4321;
+    private static final int SIZE = 200;
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    void createListShouldNotDependOnParallelism(final int parallelism) {
+        final List<Person> expected = Instancio.of(Person.class).withSeed(SEED).createList(SIZE, 1);
+        final List<Person> actual = Instancio.of(Person.class).withSeed(SEED).createList(SIZE, parallelism);
+
+        assertThat(actual)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void parallelStreamShouldMatchCreateList() {
+        final List<UUID> expected = Instancio.of(UUID.class).withSeed(SEED).createList(SIZE, 3);
+        final List<UUID> actual = Instancio.of(UUID.class).withSeed(SEED).parallelStream()
+                .limit(SIZE)
+                .collect(toList());
+
+        assertThat(actual).isEqualTo(expected).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void differentSeedsShouldProduceDifferentResults() {
+        final List<UUID> first = Instancio.of(UUID.class).withSeed(1).createList(SIZE, 2);
+        final List<UUID> second = Instancio.of(UUID.class).withSeed(2).createList(SIZE, 2);
+
+        assertThat(first).doesNotContainAnyElementsOf(second);
+    }
+
+    @Test
+    void callbacksShouldBeInvokedForEachElement() {
+        final Set<Person> completed = ConcurrentHashMap.newKeySet();
+
+        final List<Person> results = Instancio.of(Person.class)
+                .onComplete(all(Person.class), (Person person) -> completed.add(person))
+                .createList(SIZE, 4);
+
+        assertThat(completed).hasSize(SIZE).containsExactlyInAnyOrderElementsOf(results);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> Instancio.of(Person.class).createList(-1, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Size must not be negative: -1");
+
+        assertThatThrownBy(() -> Instancio.of(Person.class).createList(1, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Parallelism must be positive: 0");
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.features;
+
+import org.instancio.Instancio;
+import org.instancio.Model;
+import org.instancio.TypeToken;
+import org.instancio.pojo.cyclic.BidirectionalOneToOne;
+import org.instancio.pojo.generics.basic.Item;
+import org.instancio.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Bindings.all;
+
+class StreamTest {
+
+    @Test
+    void stream() {
+        final List<Person> results = Instancio.stream(Person.class).limit(10).collect(toList());
+
+        assertThat(results).hasSize(10).doesNotHaveDuplicates().allSatisfy(person -> {
+            assertThat(person.getName()).isNotBlank();
+            assertThat(person.getAddress().getPhoneNumbers()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void streamWithTypeToken() {
+        final List<Item<String>> results = Instancio.stream(new TypeToken<Item<String>>() {})
+                .limit(3)
+                .collect(toList());
+
+        assertThat(results).hasSize(3).allSatisfy(item -> assertThat(item.getValue()).isNotBlank());
+    }
+
+    @Test
+    void streamFromModel() {
+        final Model<Person> model = Instancio.of(Person.class)
+                .supply(all(String.class), () -> "foo")
+                .toModel();
+
+        assertThat(Instancio.stream(model).limit(5))
+                .hasSize(5)
+                .allSatisfy(person -> assertThat(person.getName()).isEqualTo("foo"));
+    }
+
+    @Test
+    void streamWithSeedShouldProduceSameSequence() {
+        final List<UUID> first = Instancio.of(UUID.class).withSeed(123).stream().limit(5).collect(toList());
+        final List<UUID> second = Instancio.of(UUID.class).withSeed(123).stream().limit(5).collect(toList());
+
+        assertThat(first).isEqualTo(second).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void parallelStream() {
+        final List<Person> results = Instancio.stream(Person.class).parallel().limit(100).collect(toList());
+
+        assertThat(results).hasSize(100).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @Test
+    void createList() {
+        final List<Person> results = Instancio.of(Person.class).createList(10);
+
+        assertThat(results).hasSize(10).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @Test
+    void createArray() {
+        final Person[] results = Instancio.of(Person.class).createArray(10);
+
+        assertThat(results).hasSize(10).doesNotHaveDuplicates().doesNotContainNull();
+    }
+
+    @Test
+    void createArrayOfPrimitive() {
+        final Integer[] results = Instancio.of(int.class).createArray(10);
+
+        assertThat(results).hasSize(10).doesNotContainNull();
+    }
+
+    @Test
+    void createEmpty() {
+        assertThat(Instancio.of(Person.class).createList(0)).isEmpty();
+        assertThat(Instancio.of(Person.class).createArray(0)).isEmpty();
+    }
+
+    @Test
+    void negativeSize() {
+        assertThatThrownBy(() -> Instancio.of(Person.class).createList(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Size must not be negative: -1");
+
+        assertThatThrownBy(() -> Instancio.of(Person.class).createArray(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Size must not be negative: -1");
+    }
+
+    @Test
+    void callbacksShouldBeInvokedOncePerObject() {
+        final List<Person> completed = new ArrayList<>();
+
+        final List<Person> results = Instancio.of(Person.class)
+                .onComplete(all(Person.class), (Person person) -> completed.add(person))
+                .createList(5);
+
+        assertThat(completed).containsExactlyElementsOf(results);
+    }
+
+    @Test
+    void cyclicReferencesShouldBeResolvedForEachObject() {
+        final int expectedDepth = depth(Instancio.create(BidirectionalOneToOne.Parent.class));
+        final List<BidirectionalOneToOne.Parent> results = Instancio.of(BidirectionalOneToOne.Parent.class)
+                .createList(3);
+
+        assertThat(results).allSatisfy(parent -> assertThat(depth(parent)).isEqualTo(expectedDepth));
+    }
+
+    private static int depth(final BidirectionalOneToOne.Parent parent) {
+        int depth = 0;
+        BidirectionalOneToOne.Parent current = parent;
+        while (current != null && current.getChild() != null) {
+            depth++;
+            current = current.getChild().getParent();
+        }
+        return depth;
+    }
+}
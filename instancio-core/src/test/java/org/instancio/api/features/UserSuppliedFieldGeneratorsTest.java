@@ -27,6 +27,9 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
@@ -57,6 +60,19 @@ class UserSuppliedFieldGeneratorsTest {
         assertThat(person.getAddress()).isSameAs(customAddress);
     }
 
+    @Test
+    void weightedOneOf() {
+        final Map<Integer, Double> ageOptions = new HashMap<>();
+        ageOptions.put(20, 1.0);
+        ageOptions.put(30, 0.0);
+
+        final List<Person> results = Instancio.of(Person.class)
+                .generate(field("age"), gen -> gen.oneOf(ageOptions))
+                .createList(20);
+
+        assertThat(results).extracting(Person::getAge).containsOnly(20);
+    }
+
     @Test
     void fooContainerWithUserSuppliedInstance() {
         final String expectedFooString = "expected-foo";
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.features.generators;
+
+import org.instancio.Instancio;
+import org.instancio.pojo.person.Gender;
+import org.instancio.pojo.person.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Bindings.all;
+import static org.instancio.Bindings.field;
+
+class BuiltInEnumGeneratorTest {
+
+    @Test
+    void enumOfWithWeights() {
+        final List<Person> results = Instancio.of(Person.class)
+                .generate(field("gender"), gen -> gen.enumOf(Gender.class)
+                        .weight(Gender.MALE, 0)
+                        .weight(Gender.OTHER, 0))
+                .createList(50);
+
+        assertThat(results).extracting(Person::getGender).containsOnly(Gender.FEMALE);
+    }
+
+    @Test
+    void enumOfWithoutWeights() {
+        final List<Person> results = Instancio.of(Person.class)
+                .generate(all(Gender.class), gen -> gen.enumOf(Gender.class))
+                .createList(50);
+
+        assertThat(results).extracting(Person::getGender).containsOnly(Gender.values());
+    }
+}
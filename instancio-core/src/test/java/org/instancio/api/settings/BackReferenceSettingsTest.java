@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.settings;
+
+import lombok.Getter;
+import org.instancio.Instancio;
+import org.instancio.pojo.cyclic.BidirectionalOneToOne;
+import org.instancio.pojo.cyclic.CyclicList;
+import org.instancio.pojo.cyclic.IndirectCircularRef;
+import org.instancio.pojo.cyclic.onetomany.DetailRecord;
+import org.instancio.pojo.cyclic.onetomany.MainRecord;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.instancio.testsupport.tags.CyclicTag;
+import org.instancio.testsupport.tags.SettingsTag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Bindings.field;
+
+@CyclicTag
+@SettingsTag
+class BackReferenceSettingsTest {
+
+    private static final Settings settings = Settings.create()
+            .set(Setting.BACK_REFERENCES, true)
+            .lock();
+
+    @Getter
+    private static class Employee {
+        private String name;
+        private Employee manager;
+    }
+
+    @Test
+    void disabledByDefault() {
+        final BidirectionalOneToOne.Parent result = Instancio.create(BidirectionalOneToOne.Parent.class);
+
+        assertThat(result.getChild().getParent()).isNotNull().isNotSameAs(result);
+    }
+
+    @Test
+    void oneToOne() {
+        final BidirectionalOneToOne.Parent result = Instancio.of(BidirectionalOneToOne.Parent.class)
+                .withSettings(settings)
+                .create();
+
+        assertThat(result.getParentName()).isNotNull();
+        assertThat(result.getChild().getChildName()).isNotNull();
+        assertThat(result.getChild().getParent()).isSameAs(result);
+    }
+
+    @Test
+    void oneToMany() {
+        final MainRecord result = Instancio.of(MainRecord.class)
+                .withSettings(settings)
+                .create();
+
+        assertThat(result.getDetailRecords()).isNotEmpty()
+                .allSatisfy(detail -> assertThat(detail.getMainRecord()).isSameAs(result));
+    }
+
+    @Test
+    void manyToOne() {
+        final DetailRecord result = Instancio.of(DetailRecord.class)
+                .withSettings(settings)
+                .create();
+
+        final MainRecord mainRecord = result.getMainRecord();
+        assertThat(mainRecord.getDetailRecords()).isNotEmpty()
+                .allSatisfy(detail -> {
+                    assertThat(detail).isNotSameAs(result);
+                    assertThat(detail.getMainRecord()).isSameAs(mainRecord);
+                });
+    }
+
+    @Test
+    void indirectCycleShouldReferenceNearestObjectOfSameType() {
+        final IndirectCircularRef result = Instancio.of(IndirectCircularRef.class)
+                .withSettings(settings)
+                .create();
+
+        final IndirectCircularRef.A startA = result.getStartA();
+        assertThat(startA.getB().getC().getEndA()).isSameAs(startA);
+    }
+
+    @Test
+    void selfTypedFieldShouldNotReferenceItsOwner() {
+        final Employee result = Instancio.of(Employee.class)
+                .withSettings(settings)
+                .create();
+
+        final Employee manager = result.getManager();
+        assertThat(manager).isNotNull().isNotSameAs(result);
+        assertThat(manager.getManager()).isNotNull().isNotSameAs(manager).isNotSameAs(result);
+    }
+
+    @Test
+    void collectionElementsShouldNotBeBackReferences() {
+        final CyclicList result = Instancio.of(CyclicList.class)
+                .withSettings(settings)
+                .create();
+
+        assertThat(result.getItems()).isNotEmpty()
+                .doesNotContain(result)
+                .allSatisfy(item -> assertThat(item.getItems()).isNotEmpty()
+                        .allSatisfy(nestedItem -> assertThat(nestedItem.getItems()).isNull()));
+    }
+
+    @Test
+    void ignoredAndUserSuppliedValuesShouldTakePrecedence() {
+        final MainRecord result = Instancio.of(MainRecord.class)
+                .withSettings(settings)
+                .supply(field(DetailRecord.class, "mainRecord"), () -> null)
+                .create();
+
+        assertThat(result.getDetailRecords()).allSatisfy(detail -> assertThat(detail.getMainRecord()).isNull());
+
+        final BidirectionalOneToOne.Parent ignored = Instancio.of(BidirectionalOneToOne.Parent.class)
+                .withSettings(settings)
+                .ignore(field(BidirectionalOneToOne.Child.class, "parent"))
+                .create();
+
+        assertThat(ignored.getChild().getParent()).isNull();
+    }
+}
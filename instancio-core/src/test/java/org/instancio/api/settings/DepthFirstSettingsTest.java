@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.settings;
+
+import org.instancio.Instancio;
+import org.instancio.pojo.collections.maps.MapStringPerson;
+import org.instancio.pojo.person.Person;
+import org.instancio.pojo.person.Phone;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.instancio.testsupport.tags.SettingsTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Bindings.all;
+
+@SettingsTag
+class DepthFirstSettingsTest {
+
+    private static final Settings settings = Settings.create()
+            .set(Setting.DEPTH_FIRST, true)
+            .lock();
+
+    @Test
+    void populatesObjectGraph() {
+        final MapStringPerson result = Instancio.of(MapStringPerson.class)
+                .withSettings(settings)
+                .create();
+
+        assertThat(result.getMap()).isNotEmpty().allSatisfy((key, person) -> {
+            assertThat(key).isNotBlank();
+            assertThat(person.getName()).isNotBlank();
+            assertThat(person.getAddress().getCity()).isNotBlank();
+            assertThat(person.getAddress().getPhoneNumbers()).isNotEmpty()
+                    .allSatisfy(phone -> assertThat(phone.getNumber()).isNotBlank());
+            assertThat(person.getPets()).isNotEmpty()
+                    .allSatisfy(pet -> assertThat(pet.getName()).isNotBlank());
+        });
+    }
+
+    @Test
+    void callbacksAreInvokedWithCompletedObjects() {
+        final List<Person> completed = new ArrayList<>();
+        final MapStringPerson result = Instancio.of(MapStringPerson.class)
+                .withSettings(settings)
+                .onComplete(all(Phone.class), (Phone phone) -> phone.setCountryCode("+1"))
+                .onComplete(all(Person.class), (Person person) -> {
+                    assertThat(person.getAddress().getPhoneNumbers())
+                            .allSatisfy(phone -> assertThat(phone.getCountryCode()).isEqualTo("+1"));
+                    completed.add(person);
+                })
+                .create();
+
+        assertThat(completed).containsExactlyInAnyOrderElementsOf(result.getMap().values());
+    }
+
+    @Test
+    void sameSeedProducesSameResult() {
+        final Person result1 = Instancio.of(Person.class).withSettings(settings).withSeed(123).create();
+        final Person result2 = Instancio.of(Person.class).withSettings(settings).withSeed(123).create();
+
+        assertThat(result1).usingRecursiveComparison().isEqualTo(result2);
+    }
+}
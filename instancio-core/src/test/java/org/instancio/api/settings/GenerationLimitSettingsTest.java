@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.settings;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.instancio.Instancio;
+import org.instancio.pojo.collections.lists.ListPerson;
+import org.instancio.pojo.collections.lists.ListString;
+import org.instancio.pojo.collections.maps.MapStringPerson;
+import org.instancio.pojo.person.Person;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.instancio.testsupport.tags.SettingsTag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SettingsTag
+class GenerationLimitSettingsTest {
+
+    @Test
+    void maxDepth() {
+        final Person result = Instancio.of(Person.class)
+                .withSettings(Settings.create().set(Setting.MAX_DEPTH, 1))
+                .create();
+
+        assertThat(result.getName()).isNotNull();
+        assertThat(result.getAddress()).isNotNull();
+        assertThat(result.getAddress().getCity()).isNull();
+        assertThat(result.getAddress().getPhoneNumbers()).isNull();
+        assertThat(result.getPets()).isNotEmpty().containsOnlyNulls();
+    }
+
+    @Test
+    void containersAtMaxDepthAreNotPopulated() {
+        final Person result = Instancio.of(Person.class)
+                .withSettings(Settings.create().set(Setting.MAX_DEPTH, 2))
+                .create();
+
+        assertThat(result.getAddress().getCity()).isNotNull();
+        assertThat(result.getAddress().getPhoneNumbers()).isEmpty();
+        assertThat(result.getPets()).isNotEmpty().allSatisfy(pet -> {
+            assertThat(pet).isNotNull();
+            assertThat(pet.getName()).isNull();
+        });
+    }
+
+    @Test
+    void maxNodes() {
+        final ListPerson result = Instancio.of(ListPerson.class)
+                .withSettings(Settings.create()
+                        .set(Setting.COLLECTION_MIN_SIZE, 100)
+                        .set(Setting.COLLECTION_MAX_SIZE, 100)
+                        .set(Setting.MAX_NODES, 50))
+                .create();
+
+        // the root object and the list account for two nodes
+        assertThat(result.getList()).hasSize(48).allSatisfy(person -> {
+            assertThat(person).isNotNull();
+            assertThat(person.getAddress()).isNull();
+        });
+    }
+
+    @Test
+    void maxEstimatedBytes() {
+        final Person result = Instancio.of(Person.class)
+                .withSettings(Settings.create().set(Setting.MAX_ESTIMATED_BYTES, 100L))
+                .create();
+
+        assertThat(result.getAddress() == null || result.getAddress().getCity() == null).isTrue();
+
+        final Person unlimited = Instancio.of(Person.class)
+                .withSettings(Settings.create().set(Setting.MAX_ESTIMATED_BYTES, 1_000_000L))
+                .create();
+
+        assertThat(unlimited.getAddress().getCity()).isNotNull();
+        assertThat(unlimited.getAddress().getPhoneNumbers()).isNotEmpty();
+    }
+
+    @Test
+    void maxEstimatedBytesShouldLimitBulkGeneratedElements() {
+        final ListString result = Instancio.of(ListString.class)
+                .withSettings(Settings.create()
+                        .set(Setting.COLLECTION_MIN_SIZE, 10_000)
+                        .set(Setting.COLLECTION_MAX_SIZE, 10_000)
+                        .set(Setting.STRING_MIN_LENGTH, 10)
+                        .set(Setting.STRING_MAX_LENGTH, 10)
+                        .set(Setting.MAX_ESTIMATED_BYTES, 10_000L))
+                .create();
+
+        // each string is estimated as at least 40 bytes
+        assertThat(result.getList()).isNotEmpty().hasSizeLessThanOrEqualTo(250);
+    }
+
+    @Test
+    void maxNodesShouldCountMapKeysAndValues() {
+        final MapStringPerson result = Instancio.of(MapStringPerson.class)
+                .withSettings(Settings.create()
+                        .set(Setting.MAP_MIN_SIZE, 100)
+                        .set(Setting.MAP_MAX_SIZE, 100)
+                        .set(Setting.MAX_NODES, 50))
+                .create();
+
+        // the root object and the map account for two nodes
+        assertThat(result.getMap()).hasSize(24);
+    }
+
+    @Test
+    void limitsDoNotChangeValuesWhenNotReached() {
+        final Person expected = Instancio.of(Person.class).withSeed(123).create();
+        final Person result = Instancio.of(Person.class)
+                .withSeed(123)
+                .withSettings(Settings.create()
+                        .set(Setting.MAX_DEPTH, 100)
+                        .set(Setting.MAX_NODES, 1_000_000)
+                        .set(Setting.MAX_ESTIMATED_BYTES, 1_000_000_000L))
+                .create();
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void shouldWarnWhenLimitIsReached() {
+        final Logger logger = (Logger) LoggerFactory.getLogger("org.instancio.internal.InstancioEngine");
+        final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            Instancio.of(Person.class)
+                    .withSettings(Settings.create().set(Setting.MAX_NODES, 1_000))
+                    .create();
+            assertThat(appender.list).noneMatch(event -> event.getLevel() == Level.WARN);
+
+            Instancio.of(ListPerson.class)
+                    .withSettings(Settings.create()
+                            .set(Setting.COLLECTION_MIN_SIZE, 100)
+                            .set(Setting.COLLECTION_MAX_SIZE, 100)
+                            .set(Setting.MAX_NODES, 50))
+                    .create();
+            assertThat(appender.list)
+                    .filteredOn(event -> event.getLevel() == Level.WARN)
+                    .singleElement()
+                    .satisfies(event -> assertThat(event.getFormattedMessage())
+                            .startsWith("Generation limit reached")
+                            .contains("max nodes: 50 (limit reached"));
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+}
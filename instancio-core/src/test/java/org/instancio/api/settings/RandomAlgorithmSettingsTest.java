@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.api.settings;
+
+import org.instancio.Instancio;
+import org.instancio.internal.random.RandomAlgorithm;
+import org.instancio.pojo.person.Person;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RandomAlgorithmSettingsTest {
+
+    private static final int SEED = 123;
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void sameSeedShouldProduceSameObject(final RandomAlgorithm algorithm) {
+        final Settings settings = Settings.create().set(Setting.RANDOM_ALGORITHM, algorithm.name());
+
+        final Person first = Instancio.of(Person.class).withSettings(settings).withSeed(SEED).create();
+        final Person second = Instancio.of(Person.class).withSettings(settings).withSeed(SEED).create();
+
+        assertThat(first).usingRecursiveComparison().isEqualTo(second);
+        assertThat(first.getName()).isNotBlank();
+        assertThat(first.getAddress().getPhoneNumbers()).isNotEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomAlgorithm.class, names = "JDK", mode = EnumSource.Mode.EXCLUDE)
+    void algorithmsShouldProduceDifferentObjects(final RandomAlgorithm algorithm) {
+        final Settings settings = Settings.create().set(Setting.RANDOM_ALGORITHM, algorithm.name());
+
+        final Person jdk = Instancio.of(Person.class).withSeed(SEED).create();
+        final Person other = Instancio.of(Person.class).withSettings(settings).withSeed(SEED).create();
+
+        assertThat(other.getName()).isNotEqualTo(jdk.getName());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void parallelCreateListShouldUseConfiguredAlgorithm(final RandomAlgorithm algorithm) {
+        final Settings settings = Settings.create().set(Setting.RANDOM_ALGORITHM, algorithm.name());
+
+        assertThat(Instancio.of(Person.class).withSettings(settings).withSeed(SEED).createList(20, 3))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(Instancio.of(Person.class).withSettings(settings).withSeed(SEED).createList(20, 1));
+    }
+}
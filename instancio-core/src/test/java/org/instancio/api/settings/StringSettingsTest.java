@@ -24,7 +24,10 @@ import org.instancio.testsupport.tags.SettingsTag;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -78,5 +81,42 @@ class StringSettingsTest {
         assertThat(result.getList()).doesNotContainNull();
     }
 
+    @Test
+    @DisplayName("Strings should be drawn from a pool of the given size")
+    void poolSize() {
+        final Settings overrides = settings.merge(Settings.create().set(Setting.STRING_POOL_SIZE, 5));
+        final List<StringHolder> results = Instancio.of(StringHolder.class).withSettings(overrides).createList(500);
+
+        final Set<String> distinctValues = new HashSet<>();
+        final Set<String> distinctInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (StringHolder result : results) {
+            assertThat(result.getValue()).hasSizeBetween(MIN_SIZE_OVERRIDE, MAX_SIZE_OVERRIDE);
+            distinctValues.add(result.getValue());
+            distinctInstances.add(result.getValue());
+        }
+        assertThat(distinctValues).hasSize(5);
+        assertThat(distinctInstances).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Strings drawn from a pool should be reproducible using a seed")
+    void poolWithSeed() {
+        final Settings overrides = settings.merge(Settings.create().set(Setting.STRING_POOL_SIZE, 20));
 
+        assertThat(Instancio.of(ListString.class).withSettings(overrides).withSeed(123).create().getList())
+                .containsExactlyElementsOf(Instancio.of(ListString.class).withSettings(overrides).withSeed(123).create().getList());
+    }
+
+    @Test
+    @DisplayName("Strings drawn from a pool should depend on the seed")
+    void poolShouldDependOnSeed() {
+        final Settings overrides = settings.merge(Settings.create().set(Setting.STRING_POOL_SIZE, 20));
+
+        final Set<String> first = new HashSet<>(
+                Instancio.of(ListString.class).withSettings(overrides).withSeed(123).create().getList());
+        final Set<String> second = new HashSet<>(
+                Instancio.of(ListString.class).withSettings(overrides).withSeed(456).create().getList());
+
+        assertThat(first).doesNotContainAnyElementsOf(second);
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator;
+
+import org.instancio.Generator;
+import org.instancio.generator.util.CollectionGenerator;
+import org.instancio.internal.random.RandomProviderImpl;
+import org.instancio.pojo.person.Gender;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeneratorResolverTest {
+
+    @Test
+    void getSharedShouldReturnSameResolverForEqualSettings() {
+        final GeneratorResolver resolver = GeneratorResolver.getShared(Settings.defaults());
+
+        assertThat(GeneratorResolver.getShared(Settings.defaults())).isSameAs(resolver);
+        assertThat(GeneratorResolver.getShared(Settings.defaults().lock())).isSameAs(resolver);
+        assertThat(GeneratorResolver.getShared(Settings.defaults().set(Setting.LONG_MIN, 5L)))
+                .isNotSameAs(resolver);
+    }
+
+    @Test
+    void getSharedShouldNotBeAffectedByModificationsOfGivenSettings() {
+        final Settings settings = Settings.defaults().set(Setting.COLLECTION_MIN_SIZE, 7);
+        final GeneratorResolver resolver = GeneratorResolver.getShared(settings);
+
+        settings.set(Setting.COLLECTION_MIN_SIZE, 8);
+
+        assertThat(GeneratorResolver.getShared(settings)).isNotSameAs(resolver);
+    }
+
+    @Test
+    void shouldReuseArrayAndEnumGenerators() {
+        final GeneratorResolver resolver = GeneratorResolver.getShared(Settings.defaults());
+
+        assertThat(resolver.get(String[].class)).containsSame(resolver.get(String[].class).get());
+        assertThat(resolver.get(Gender.class)).containsSame(resolver.get(Gender.class).get());
+    }
+
+    @Test
+    void sharedCollectionGeneratorShouldUseGivenRandomProviderForHints() {
+        final Settings settings = Settings.defaults()
+                .set(Setting.COLLECTION_MIN_SIZE, 3)
+                .set(Setting.COLLECTION_MAX_SIZE, 3);
+
+        final Generator<?> generator = GeneratorResolver.getShared(settings).get(List.class).get();
+        assertThat(generator).isInstanceOf(CollectionGenerator.class);
+
+        final GeneratorResult result = GeneratorResult.fromGenerator(generator, new RandomProviderImpl());
+
+        assertThat(result.getValue()).isInstanceOf(List.class);
+        assertThat(result.getHints().getDataStructureSize()).isEqualTo(3);
+    }
+
+    @Test
+    void sharedContainerGeneratorsShouldRejectHintsWithoutRandomProvider() {
+        final GeneratorResolver resolver = GeneratorResolver.getShared(Settings.defaults());
+        final AbstractGenerator<?> listGenerator = (AbstractGenerator<?>) resolver.get(List.class).get();
+        final AbstractGenerator<?> mapGenerator = (AbstractGenerator<?>) resolver.get(Map.class).get();
+
+        assertThatThrownBy(listGenerator::getHints)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("CollectionGenerator has no random provider; use getHints(RandomProvider) instead");
+        assertThatThrownBy(mapGenerator::getHints)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("MapGenerator has no random provider; use getHints(RandomProvider) instead");
+    }
+}
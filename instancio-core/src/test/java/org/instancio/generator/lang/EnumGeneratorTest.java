@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.lang;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.internal.random.RandomProviderImpl;
+import org.instancio.pojo.person.Gender;
+import org.instancio.settings.Settings;
+import org.instancio.testsupport.tags.NonDeterministicTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class EnumGeneratorTest {
+    private static final int SAMPLE_SIZE = 10_000;
+    private static final RandomProvider random = new RandomProviderImpl();
+    private static final GeneratorContext context = new GeneratorContext(Settings.defaults(), random);
+
+    private enum Empty {}
+
+    @Test
+    void generateShouldMatchSelectionFromValues() {
+        final RandomProvider expectedRandom = new RandomProviderImpl(123);
+        final RandomProvider actualRandom = new RandomProviderImpl(123);
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.generate(actualRandom)).isEqualTo(expectedRandom.from(Gender.values()));
+        }
+    }
+
+    @Test
+    @NonDeterministicTag
+    void weighted() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.weight(Gender.MALE, 6).weight(Gender.FEMALE, 3);
+
+        final Map<Gender, Integer> counts = generateCounts(generator);
+
+        // OTHER keeps the default weight of 1
+        assertThat(counts.get(Gender.MALE) / (double) SAMPLE_SIZE).isCloseTo(0.6, within(0.05));
+        assertThat(counts.get(Gender.FEMALE) / (double) SAMPLE_SIZE).isCloseTo(0.3, within(0.05));
+        assertThat(counts.get(Gender.OTHER) / (double) SAMPLE_SIZE).isCloseTo(0.1, within(0.05));
+    }
+
+    @Test
+    void zeroWeightShouldExcludeConstant() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.weight(Gender.OTHER, 0);
+
+        assertThat(generateCounts(generator)).containsOnlyKeys(Gender.MALE, Gender.FEMALE);
+    }
+
+    @Test
+    void weightsSetAfterGeneratingShouldTakeEffect() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.weight(Gender.OTHER, 0);
+        assertThat(generateCounts(generator)).containsOnlyKeys(Gender.MALE, Gender.FEMALE);
+
+        generator.weight(Gender.OTHER, 1).weight(Gender.MALE, 0);
+        assertThat(generateCounts(generator)).containsOnlyKeys(Gender.FEMALE, Gender.OTHER);
+    }
+
+    @Test
+    void invalidWeight() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+
+        assertThatThrownBy(() -> generator.weight(Gender.MALE, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weight must be a finite non-negative number: -1.0");
+
+        assertThatThrownBy(() -> generator.weight(Gender.MALE, Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weight must be a finite non-negative number: NaN");
+
+        assertThatThrownBy(() -> generator.weight(null, 1))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Enum constant must not be null");
+    }
+
+    @Test
+    void allWeightsZero() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.weight(Gender.MALE, 0).weight(Gender.FEMALE, 0);
+
+        assertThatThrownBy(() -> generator.weight(Gender.OTHER, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At least one weight must be positive");
+
+        // the rejected weight is not applied
+        assertThat(generateCounts(generator)).containsOnlyKeys(Gender.OTHER);
+    }
+
+    @Test
+    void notAnEnum() {
+        assertThatThrownBy(() -> new EnumGenerator<>(context, String.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Class must be an enum: java.lang.String");
+    }
+
+    @Test
+    void enumWithoutConstants() {
+        final EnumGenerator<Empty> generator = new EnumGenerator<>(context, Empty.class);
+
+        assertThatThrownBy(() -> generator.generate(random))
+                .isInstanceOf(InstancioException.class)
+                .hasMessageContaining("Enum has no constants");
+    }
+
+    private static Map<Gender, Integer> generateCounts(final EnumGenerator<Gender> generator) {
+        final Map<Gender, Integer> counts = new EnumMap<>(Gender.class);
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            counts.merge(generator.generate(random), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
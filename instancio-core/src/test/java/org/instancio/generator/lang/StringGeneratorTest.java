@@ -16,6 +16,7 @@
 package org.instancio.generator.lang;
 
 import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.RandomAlgorithm;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.internal.random.RandomProviderImpl;
 import org.instancio.settings.Setting;
@@ -23,11 +24,15 @@ import org.instancio.settings.Settings;
 import org.instancio.testsupport.tags.NonDeterministicTag;
 import org.instancio.testsupport.tags.SettingsTag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.HashSet;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.testsupport.asserts.GeneratedHintsAssert.assertHints;
 
 @SettingsTag
@@ -40,6 +45,7 @@ class StringGeneratorTest {
             .set(Setting.STRING_ALLOW_EMPTY, true)
             .set(Setting.STRING_NULLABLE, true);
 
+    private static final int SEED = 3615;
     private static final RandomProvider random = new RandomProviderImpl();
     private static final GeneratorContext context = new GeneratorContext(settings, random);
 
@@ -82,6 +88,180 @@ class StringGeneratorTest {
         }
     }
 
+    @Test
+    void alphabets() {
+        assertGeneratedChars(new StringGenerator(context).upperCase(), "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        assertGeneratedChars(new StringGenerator(context).lowerCase(), "abcdefghijklmnopqrstuvwxyz");
+        assertGeneratedChars(new StringGenerator(context).digits(), "0123456789");
+        assertGeneratedChars(new StringGenerator(context).hex(), "0123456789ABCDEF");
+        assertGeneratedChars(new StringGenerator(context).alphaNumeric(),
+                "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz");
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void customCharacters(final RandomAlgorithm algorithm) {
+        final RandomProvider random = new RandomProviderImpl(SEED, algorithm);
+        assertGeneratedChars(new StringGenerator(context).chars("x"), "x", random);
+        assertGeneratedChars(new StringGenerator(context).chars("01"), "01", random);
+        assertGeneratedChars(new StringGenerator(context).chars("\u00e9\u00df\u00fe"), "\u00e9\u00df\u00fe", random);
+        assertGeneratedChars(new StringGenerator(context).chars("\u03b1\u03b2\u03b3\u20ac"), "\u03b1\u03b2\u03b3\u20ac", random);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "prefix-", "\u00e9-", "\u20ac-"})
+    void prefix(final String prefix) {
+        final Settings noNullsOrEmpty = Settings.from(settings)
+                .set(Setting.STRING_NULLABLE, false)
+                .set(Setting.STRING_ALLOW_EMPTY, false);
+        final StringGenerator withoutNulls = new StringGenerator(new GeneratorContext(noNullsOrEmpty, random));
+        withoutNulls.prefix(prefix).length(5).digits();
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(withoutNulls.generate(random)).startsWith(prefix).hasSize(prefix.length() + 5);
+        }
+    }
+
+    @Test
+    void pool() {
+        final Settings noNullsOrEmpty = Settings.from(settings)
+                .set(Setting.STRING_NULLABLE, false)
+                .set(Setting.STRING_ALLOW_EMPTY, false);
+        final StringGenerator generator = new StringGenerator(new GeneratorContext(noNullsOrEmpty, random));
+        generator.prefix("p-").minLength(3).maxLength(5).pool(10);
+
+        final Set<String> results = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final String result = generator.generate(random);
+            assertThat(result).startsWith("p-").hasSizeBetween(5, 7);
+            results.add(result);
+        }
+        assertThat(results).hasSizeBetween(2, 10);
+    }
+
+    @Test
+    void poolShouldNotDependOnStateOfRandomProvider() {
+        final Settings noNullsOrEmpty = Settings.from(settings)
+                .set(Setting.STRING_NULLABLE, false)
+                .set(Setting.STRING_ALLOW_EMPTY, false);
+        final GeneratorContext sharedContext = new GeneratorContext(noNullsOrEmpty, null);
+
+        final StringGenerator generator = new StringGenerator(sharedContext);
+        generator.length(10).pool(1);
+        final String first = generator.generate(new RandomProviderImpl(1, RandomAlgorithm.JDK));
+
+        final RandomProvider usedRandom = new RandomProviderImpl(1, RandomAlgorithm.SPLITMIX64);
+        usedRandom.intBetween(0, 100);
+        final StringGenerator other = new StringGenerator(sharedContext);
+        other.length(10).pool(1);
+
+        assertThat(other.generate(usedRandom)).isEqualTo(first);
+    }
+
+    @Test
+    void poolShouldDependOnSeedAndConfiguration() {
+        final Settings noNullsOrEmpty = Settings.from(settings)
+                .set(Setting.STRING_NULLABLE, false)
+                .set(Setting.STRING_ALLOW_EMPTY, false);
+        final GeneratorContext sharedContext = new GeneratorContext(noNullsOrEmpty, null);
+
+        final StringGenerator generator = new StringGenerator(sharedContext);
+        generator.length(20).pool(1);
+
+        final StringGenerator otherPrefix = new StringGenerator(sharedContext);
+        otherPrefix.prefix("-").length(20).pool(1);
+
+        final String result = generator.generate(new RandomProviderImpl(1));
+        assertThat(generator.generate(new RandomProviderImpl(2))).isNotEqualTo(result);
+        assertThat(generator.generate(new RandomProviderImpl(1))).isEqualTo(result);
+        assertThat(otherPrefix.generate(new RandomProviderImpl(1))).isNotEqualTo("-" + result);
+    }
+
+    @Test
+    void poolShouldBeRecreatedWhenModified() {
+        final Settings noNullsOrEmpty = Settings.from(settings)
+                .set(Setting.STRING_NULLABLE, false)
+                .set(Setting.STRING_ALLOW_EMPTY, false);
+        final StringGenerator generator = new StringGenerator(new GeneratorContext(noNullsOrEmpty, random));
+        generator.length(10).pool(1);
+        assertThat(generator.generate(random)).hasSize(10).isUpperCase();
+
+        generator.maxLength(5);
+        assertThat(generator.generate(random)).hasSize(5);
+
+        generator.minLength(8);
+        assertThat(generator.generate(random)).hasSize(8);
+
+        generator.length(3).prefix("p-");
+        assertThat(generator.generate(random)).startsWith("p-").hasSize(5);
+
+        generator.digits();
+        assertThat(generator.generate(random)).containsPattern("^p-\\d{3}$");
+    }
+
+    @Test
+    void invalidPoolSize() {
+        final StringGenerator generator = new StringGenerator(context);
+        assertThatThrownBy(() -> generator.pool(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Pool size must be positive: 0");
+    }
+
+    @Test
+    void emptyCharacters() {
+        final StringGenerator generator = new StringGenerator(context);
+        assertThatThrownBy(() -> generator.chars(""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Characters must not be empty");
+    }
+
+    /**
+     * With the default random algorithm, strings must be the same as those
+     * generated by previous versions, which drew one character at a time.
+     */
+    @Test
+    void shouldGenerateSameStringsAsPreviousVersions() {
+        final Settings noNullsOrEmpty = Settings.from(settings)
+                .set(Setting.STRING_NULLABLE, false)
+                .set(Setting.STRING_ALLOW_EMPTY, false);
+        final StringGenerator generator = new StringGenerator(new GeneratorContext(noNullsOrEmpty, random));
+        generator.prefix("p-").length(20);
+
+        final RandomProvider actualRandom = new RandomProviderImpl(SEED);
+        final RandomProvider expectedRandom = new RandomProviderImpl(SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final StringBuilder expected = new StringBuilder("p-");
+            expectedRandom.intBetween(20, 21);
+            for (int j = 0; j < 20; j++) {
+                expected.append(expectedRandom.character());
+            }
+            assertThat(generator.generate(actualRandom)).isEqualTo(expected.toString());
+        }
+    }
+
+    private static void assertGeneratedChars(final StringGeneratorSpec spec, final String expectedChars) {
+        assertGeneratedChars(spec, expectedChars, random);
+    }
+
+    private static void assertGeneratedChars(final StringGeneratorSpec spec, final String expectedChars, final RandomProvider random) {
+        final StringGenerator generator = (StringGenerator) spec.length(50);
+        final Set<Character> generatedChars = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final String result = generator.generate(random);
+            if (result != null) {
+                for (char c : result.toCharArray()) {
+                    generatedChars.add(c);
+                }
+            }
+        }
+        final Set<Character> expected = new HashSet<>();
+        for (char c : expectedChars.toCharArray()) {
+            expected.add(c);
+        }
+        assertThat(generatedChars).isEqualTo(expected);
+    }
+
     private static String[] upperCaseLettersAtoZ() {
         String[] expected = new String[26];
         for (int i = 0; i < expected.length; i++) {
@@ -16,6 +16,7 @@
 package org.instancio.generator.util;
 
 import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorResult;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.internal.random.RandomProviderImpl;
 import org.instancio.settings.Setting;
@@ -79,4 +80,22 @@ class CollectionGeneratorTest {
                 .nullableMapKeys(false)
                 .nullableMapValues(false);
     }
+
+    @Test
+    @DisplayName("Should draw the size once and return it with the collection")
+    void generateResultShouldDrawSizeOnce() {
+        final Settings nonNullable = Settings.from(settings).set(Setting.COLLECTION_NULLABLE, false);
+        final CollectionGenerator<?> generator = new CollectionGenerator<>(new GeneratorContext(nonNullable, random));
+        final RandomProvider resultRandom = new RandomProviderImpl(123);
+        final RandomProvider valueRandom = new RandomProviderImpl(123);
+
+        final GeneratorResult result = generator.generateResult(resultRandom);
+        generator.generate(valueRandom);
+
+        assertThat(result.getValue()).isInstanceOf(ArrayList.class);
+        assertHints(result.getHints()).dataStructureSizeBetween(MIN_SIZE, MAX_SIZE);
+        assertThat(resultRandom.intBetween(0, Integer.MAX_VALUE))
+                .as("should use as many random values as generate()")
+                .isEqualTo(valueRandom.intBetween(0, Integer.MAX_VALUE));
+    }
 }
@@ -16,6 +16,7 @@
 package org.instancio.generator.util;
 
 import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.GeneratorResult;
 import org.instancio.internal.random.RandomProvider;
 import org.instancio.internal.random.RandomProviderImpl;
 import org.instancio.settings.Setting;
@@ -82,4 +83,21 @@ class MapGeneratorTest {
                 .nullableElements(false);
     }
 
+    @Test
+    @DisplayName("Should draw the size once and return it with the map")
+    void generateResultShouldDrawSizeOnce() {
+        final Settings nonNullable = Settings.from(settings).set(Setting.MAP_NULLABLE, false);
+        final MapGenerator<?, ?> generator = new MapGenerator<>(new GeneratorContext(nonNullable, random));
+        final RandomProvider resultRandom = new RandomProviderImpl(123);
+        final RandomProvider valueRandom = new RandomProviderImpl(123);
+
+        final GeneratorResult result = generator.generateResult(resultRandom);
+        generator.generate(valueRandom);
+
+        assertThat(result.getValue()).isInstanceOf(HashMap.class);
+        assertHints(result.getHints()).dataStructureSizeBetween(MIN_SIZE, MAX_SIZE);
+        assertThat(resultRandom.intBetween(0, Integer.MAX_VALUE))
+                .as("should use as many random values as generate()")
+                .isEqualTo(valueRandom.intBetween(0, Integer.MAX_VALUE));
+    }
 }
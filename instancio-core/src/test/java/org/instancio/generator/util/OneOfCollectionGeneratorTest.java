@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.util;
+
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.internal.random.RandomProviderImpl;
+import org.instancio.settings.Settings;
+import org.instancio.testsupport.tags.NonDeterministicTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class OneOfCollectionGeneratorTest {
+    private static final int SAMPLE_SIZE = 10_000;
+    private static final RandomProvider random = new RandomProviderImpl();
+    private static final GeneratorContext context = new GeneratorContext(Settings.defaults(), random);
+
+    @Test
+    void generateShouldMatchSelectionFromCollection() {
+        final List<String> choices = Arrays.asList("foo", "bar", "baz", "qux");
+        final RandomProvider expectedRandom = new RandomProviderImpl(123);
+        final RandomProvider actualRandom = new RandomProviderImpl(123);
+        final OneOfCollectionGenerator<String> generator = new OneOfCollectionGenerator<>(context);
+        generator.oneOf(choices);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.generate(actualRandom)).isEqualTo(expectedRandom.from(choices));
+        }
+    }
+
+    @Test
+    void choicesShouldBeCopied() {
+        final List<String> choices = new ArrayList<>(Arrays.asList("foo", "bar"));
+        final OneOfCollectionGenerator<String> generator = new OneOfCollectionGenerator<>(context);
+        generator.oneOf(choices);
+        choices.add("baz");
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.generate(random)).isIn("foo", "bar");
+        }
+    }
+
+    @Test
+    @NonDeterministicTag
+    void weighted() {
+        final Map<String, Double> choices = new LinkedHashMap<>();
+        choices.put("foo", 7.0);
+        choices.put("bar", 2.0);
+        choices.put("baz", 1.0);
+        choices.put("qux", 0.0);
+
+        final OneOfCollectionGenerator<String> generator = new OneOfCollectionGenerator<>(context);
+        generator.oneOf(choices);
+
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            counts.merge(generator.generate(random), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsOnlyKeys("foo", "bar", "baz");
+        assertThat(counts.get("foo") / (double) SAMPLE_SIZE).isCloseTo(0.7, within(0.05));
+        assertThat(counts.get("bar") / (double) SAMPLE_SIZE).isCloseTo(0.2, within(0.05));
+        assertThat(counts.get("baz") / (double) SAMPLE_SIZE).isCloseTo(0.1, within(0.05));
+    }
+
+    @Test
+    void emptyChoices() {
+        final OneOfCollectionGenerator<String> generator = new OneOfCollectionGenerator<>(context);
+        generator.oneOf(new ArrayList<>());
+
+        assertThatThrownBy(() -> generator.generate(random))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Array must have at least one element");
+
+        assertThatThrownBy(() -> generator.oneOf(new HashMap<>()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Map must have at least one element");
+    }
+
+    @Test
+    void invalidWeights() {
+        final OneOfCollectionGenerator<String> generator = new OneOfCollectionGenerator<>(context);
+        final Map<String, Double> choices = new HashMap<>();
+        choices.put("foo", null);
+
+        assertThatThrownBy(() -> generator.oneOf(choices))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("Weight must not be null: foo");
+
+        choices.put("foo", -1.0);
+
+        assertThatThrownBy(() -> generator.oneOf(choices))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weight must be a finite non-negative number: -1.0");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.util;
+
+import org.instancio.generator.GeneratorContext;
+import org.instancio.internal.random.RandomProvider;
+import org.instancio.internal.random.RandomProviderImpl;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UUIDGeneratorTest {
+    private static final int SAMPLE_SIZE = 10_000;
+
+    private final RandomProvider random = new RandomProviderImpl();
+    private final UUIDGenerator generator = new UUIDGenerator(new GeneratorContext(Settings.defaults(), random));
+
+    @Test
+    void shouldGenerateRandomVersion4Uuids() {
+        final Set<UUID> results = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final UUID uuid = generator.generate(random);
+            assertThat(uuid.version()).isEqualTo(4);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(UUID.fromString(uuid.toString())).isEqualTo(uuid);
+            results.add(uuid);
+        }
+        assertThat(results).hasSize(SAMPLE_SIZE);
+    }
+
+    @Test
+    void shouldGenerateSameUuidsWithSameSeed() {
+        final RandomProvider first = new RandomProviderImpl(123);
+        final RandomProvider second = new RandomProviderImpl(123);
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.generate(first)).isEqualTo(generator.generate(second));
+        }
+    }
+
+    @Test
+    void fillArray() {
+        final UUID[] array = new UUID[10];
+        generator.fillArray(array, 8, false, random);
+
+        assertThat(Arrays.copyOf(array, 8)).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(array[8]).isNull();
+        assertThat(array[9]).isNull();
+    }
+}
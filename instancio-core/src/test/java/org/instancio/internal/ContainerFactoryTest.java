@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContainerFactoryTest {
+
+    @ValueSource(classes = {
+            ArrayList.class,
+            ArrayDeque.class,
+            Vector.class,
+            HashSet.class,
+            PriorityQueue.class,
+            LinkedList.class,
+            TreeSet.class,
+            CopyOnWriteArrayList.class
+    })
+    @ParameterizedTest
+    void createCollection(final Class<?> type) {
+        for (int size : new int[]{0, 1, 100}) {
+            final Object result = ContainerFactory.create(type, size);
+            assertThat(result).isExactlyInstanceOf(type);
+            assertThat((Collection<?>) result).isEmpty();
+        }
+    }
+
+    @ValueSource(classes = {
+            HashMap.class,
+            LinkedHashMap.class,
+            IdentityHashMap.class,
+            ConcurrentHashMap.class,
+            TreeMap.class
+    })
+    @ParameterizedTest
+    void createMap(final Class<?> type) {
+        for (int size : new int[]{0, 1, 100}) {
+            final Object result = ContainerFactory.create(type, size);
+            assertThat(result).isExactlyInstanceOf(type);
+            assertThat((Map<?, ?>) result).isEmpty();
+        }
+    }
+
+    @Test
+    void unsupportedType() {
+        assertThat(ContainerFactory.create(Collection.class, 1)).isNull();
+        assertThat(ContainerFactory.create(String.class, 1)).isNull();
+        assertThat(ContainerFactory.create(new ArrayList<String>() {}.getClass(), 1))
+                .as("Subclasses are not supported")
+                .isNull();
+    }
+
+    @Test
+    void hashCapacityShouldNotOverflow() {
+        // hash tables are allocated lazily, on the first insertion
+        assertThat(ContainerFactory.create(HashMap.class, Integer.MAX_VALUE)).isEmpty();
+        assertThat(ContainerFactory.create(HashSet.class, Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void negativeSizeIsTreatedAsEmpty() {
+        assertThat(ContainerFactory.create(HashMap.class, -1)).isEmpty();
+        assertThat(ContainerFactory.create(PriorityQueue.class, -1)).isEmpty();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.internal.nodes.Node;
+import org.instancio.pojo.person.Person;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationBudgetTest {
+
+    private final Node rootNode = new InternalModel<>(ModelContext.builder(Person.class).build()).getRootNode();
+    private final Node nameNode = getChild("name");
+    private final Node petsNode = getChild("pets");
+
+    @Test
+    void disabledByDefault() {
+        final GenerationBudget budget = new GenerationBudget(Settings.defaults());
+
+        for (int i = 0; i < 1000; i++) {
+            budget.record(nameNode, "foo");
+        }
+
+        assertThat(budget.isEnabled()).isFalse();
+        assertThat(budget.isExhausted()).isFalse();
+        assertThat(budget.limitSize(nameNode, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    void maxNodes() {
+        final GenerationBudget budget = new GenerationBudget(Settings.defaults().merge(
+                Settings.create().set(Setting.MAX_NODES, 10)));
+
+        budget.record(rootNode, new Person());
+        assertThat(budget.limitSize(nameNode, 100)).isEqualTo(9);
+
+        budget.recordElements(nameNode, 8);
+        assertThat(budget.isExhausted()).isFalse();
+        assertThat(budget.limitSize(nameNode, 100)).isEqualTo(1);
+
+        budget.record(nameNode, "foo");
+        assertThat(budget.isExhausted()).isTrue();
+        assertThat(budget.limitSize(nameNode, 100)).isZero();
+
+        budget.reset();
+        assertThat(budget.isExhausted()).isFalse();
+        assertThat(budget.limitSize(nameNode, 100)).isEqualTo(10);
+    }
+
+    @Test
+    void maxEstimatedBytes() {
+        final GenerationBudget budget = new GenerationBudget(Settings.defaults().merge(
+                Settings.create().set(Setting.MAX_ESTIMATED_BYTES, 1000L)));
+
+        budget.record(nameNode, "foo");
+        assertThat(budget.isExhausted()).isFalse();
+        assertThat(budget.limitSize(nameNode, 100))
+                .as("Limited to the number of empty strings that fit into the remaining bytes")
+                .isEqualTo((1000 - ObjectSizeEstimator.estimate("foo")) / ObjectSizeEstimator.estimate(String.class));
+        assertThat(budget.limitSize(nameNode, 10)).isEqualTo(10);
+
+        budget.record(petsNode, new Object[500]);
+        assertThat(budget.isExhausted()).isTrue();
+    }
+
+    @Test
+    void mapEntriesShouldCountAsTwoNodes() {
+        final GenerationBudget budget = new GenerationBudget(Settings.defaults().merge(
+                Settings.create().set(Setting.MAX_NODES, 10)));
+
+        budget.record(rootNode, new Person());
+        assertThat(budget.limitMapSize(nameNode, nameNode, 100)).isEqualTo(4);
+    }
+
+    @Test
+    void bulkElementsShouldBeChargedByTheirActualSize() {
+        final GenerationBudget budget = new GenerationBudget(Settings.defaults().merge(
+                Settings.create().set(Setting.MAX_ESTIMATED_BYTES, 10_000L)));
+        final String shortValue = "foo";
+        final String longValue = "a considerably longer string value";
+
+        budget.recordElements(nameNode, Arrays.asList(shortValue, null, longValue));
+
+        final long expectedBytes = ObjectSizeEstimator.estimate(shortValue) + ObjectSizeEstimator.estimate(longValue);
+        assertThat(budget.getReport()).startsWith("Generated 3 values, estimated " + expectedBytes + " bytes");
+    }
+
+    @Test
+    void report() {
+        final GenerationBudget budget = new GenerationBudget(Settings.defaults().merge(
+                Settings.create().set(Setting.MAX_NODES, 5)));
+
+        budget.record(rootNode, new Person());
+        budget.record(petsNode, new Object[3]);
+        budget.recordElements(nameNode, 3);
+        budget.recordSkipped();
+
+        assertThat(budget.getReport())
+                .startsWith("Generated 5 values, estimated ")
+                .contains("max nodes: 5 (limit reached, 1 values skipped)")
+                .contains(" - Person: 1 values, ")
+                .contains(" - Person.pets: 1 values, ")
+                .contains(" - Person.name: 3 values, ");
+    }
+
+    private Node getChild(final String fieldName) {
+        return rootNode.getChildren().stream()
+                .filter(it -> it.getField().getName().equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No child node for field: " + fieldName));
+    }
+}
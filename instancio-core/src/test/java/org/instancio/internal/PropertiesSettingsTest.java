@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal;
+
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertiesSettingsTest {
+
+    @Test
+    void shouldLoadSettingsFromPropertiesFile() {
+        final Settings settings = PropertiesSettings.get();
+
+        assertThat((Integer) settings.get(Setting.ARRAY_MAX_LENGTH)).isEqualTo(6);
+        assertThat((Byte) settings.get(Setting.BYTE_MIN)).isEqualTo((byte) 1);
+    }
+
+    @Test
+    void shouldReturnCachedLockedSettings() {
+        final Settings settings = PropertiesSettings.get();
+
+        assertThat(PropertiesSettings.get()).isSameAs(settings);
+        assertThatThrownBy(() -> settings.set(Setting.BYTE_MIN, (byte) 2))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void reload() {
+        final Settings settings = PropertiesSettings.get();
+
+        PropertiesSettings.reload();
+
+        final Settings reloaded = PropertiesSettings.get();
+        assertThat(reloaded).isNotSameAs(settings);
+        assertThat((Integer) reloaded.get(Setting.ARRAY_MAX_LENGTH))
+                .isEqualTo(settings.get(Setting.ARRAY_MAX_LENGTH));
+        assertThat(reloaded.getSubtypeMap()).isEqualTo(settings.getSubtypeMap());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.pojo.generics.basic.Item;
+import org.instancio.pojo.person.Address;
+import org.instancio.pojo.person.Person;
+import org.instancio.testsupport.fixtures.Types;
+import org.instancio.testsupport.tags.NodeTag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@NodeTag
+class NodeCacheTest {
+
+    private final NodeCache cache = new NodeCache(2);
+
+    @Test
+    void shouldReturnCachedNodeForSameKey() {
+        final Node first = cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap());
+        final Node second = cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap());
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getMissCount()).isOne();
+        assertThat(cache.getHitCount()).isOne();
+        assertThat(cache.size()).isOne();
+    }
+
+    @Test
+    void shouldDistinguishSubtypeMaps() {
+        final Map<Class<?>, Class<?>> subtypeMap = new HashMap<>();
+        subtypeMap.put(List.class, ArrayList.class);
+
+        final Node withoutMapping = cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap());
+        final Node withMapping = cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), subtypeMap);
+
+        assertThat(withMapping).isNotSameAs(withoutMapping);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDistinguishRootTypeMaps() {
+        final Map<TypeVariable<?>, Class<?>> stringTypeMap = new HashMap<>();
+        stringTypeMap.put(Item.class.getTypeParameters()[0], String.class);
+
+        final Map<TypeVariable<?>, Class<?>> integerTypeMap = new HashMap<>();
+        integerTypeMap.put(Item.class.getTypeParameters()[0], Integer.class);
+
+        final Node itemString = cache.getRootNode(Item.class, Item.class, stringTypeMap, Collections.emptyMap());
+        final Node itemInteger = cache.getRootNode(Item.class, Item.class, integerTypeMap, Collections.emptyMap());
+
+        assertThat(itemInteger).isNotSameAs(itemString);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotBeAffectedByModificationsOfTheOriginalMap() {
+        final Map<Class<?>, Class<?>> subtypeMap = new HashMap<>();
+        final Node node = cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), subtypeMap);
+
+        subtypeMap.put(List.class, ArrayList.class);
+
+        assertThat(cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap()))
+                .isSameAs(node);
+    }
+
+    @Test
+    void shouldCacheParameterizedRootTypes() {
+        final Node first = cache.getRootNode(List.class, Types.LIST_STRING.get(), Collections.emptyMap(), Collections.emptyMap());
+        final Node second = cache.getRootNode(List.class, Types.LIST_STRING.get(), Collections.emptyMap(), Collections.emptyMap());
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldEvictOldestEntryWhenMaxSizeIsExceeded() {
+        final Node person = cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap());
+        cache.getRootNode(Address.class, Address.class, Collections.emptyMap(), Collections.emptyMap());
+        cache.getRootNode(String.class, String.class, Collections.emptyMap(), Collections.emptyMap());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isOne();
+        assertThat(cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap()))
+                .isNotSameAs(person);
+    }
+
+    @Test
+    void clear() {
+        cache.getRootNode(Person.class, Person.class, Collections.emptyMap(), Collections.emptyMap());
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+    }
+}
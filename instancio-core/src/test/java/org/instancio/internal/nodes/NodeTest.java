@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.testsupport.asserts.NodeAssert.assertNode;
 
 @NodeTag
@@ -149,6 +150,64 @@ class NodeTest {
         }
     }
 
+    @Nested
+    class FieldValueTests {
+
+        @Test
+        void setFieldValue() throws Exception {
+            final Node node = createFieldNode(Holder.class.getDeclaredField("value"));
+            final Holder holder = new Holder();
+
+            node.setFieldValue(holder, "foo");
+            assertThat(holder.value).isEqualTo("foo");
+
+            node.setFieldValue(holder, null);
+            assertThat(holder.value).isNull();
+        }
+
+        @Test
+        void setFieldValueShouldIgnoreNullTarget() throws Exception {
+            final Node node = createFieldNode(Holder.class.getDeclaredField("value"));
+            node.setFieldValue(null, "foo");
+        }
+
+        @Test
+        void setFieldValueWithoutField() {
+            final Node node = createNode(List.class, rootTypeMap, Types.LIST_STRING);
+            final Holder holder = new Holder();
+
+            assertThatThrownBy(() -> node.setFieldValue(holder, "foo"))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("node has no field");
+        }
+
+        private Node createFieldNode(final Field field) {
+            final NodeContext nodeContext = new NodeContext(rootTypeMap, Collections.emptyMap());
+            return new NodeImpl(nodeContext, field.getType(), field, null, null);
+        }
+    }
+
+    @Nested
+    class ImplementorNodeTests {
+
+        @Test
+        void shouldKeepImplementorNodePerClass() {
+            final NodeContext nodeContext = new NodeContext(rootTypeMap, Collections.emptyMap());
+            final Node node = new NodeImpl(nodeContext, Shape.class, null, null, null);
+
+            final Node circle = node.getImplementorNode(Circle.class);
+            final Node square = node.getImplementorNode(Square.class);
+
+            assertThat(circle.getTargetClass()).isEqualTo(Circle.class);
+            assertThat(square.getTargetClass()).isEqualTo(Square.class);
+            assertThat(node.getImplementorNode(Circle.class)).isSameAs(circle);
+            assertThat(node.getImplementorNode(Square.class)).isSameAs(square);
+            assertThat(circle.isImplementorNode()).isTrue();
+            assertThat(square.isImplementorNode()).isTrue();
+            assertThat(node.isImplementorNode()).isFalse();
+        }
+    }
+
     private static Node createNode(Class<?> klass, Map<TypeVariable<?>, Class<?>> rootTypeMap, TypeToken<?> type) {
         final NodeContext nodeContext = new NodeContext(rootTypeMap, Collections.emptyMap());
         return new NodeImpl(nodeContext, klass, null, getTypeOf(type), null);
@@ -159,6 +218,19 @@ class NodeTest {
     }
 
 
+    private static class Holder {
+        private String value;
+    }
+
+    private interface Shape {
+    }
+
+    private static class Circle implements Shape {
+    }
+
+    private static class Square implements Shape {
+    }
+
     private static class NodeImpl extends Node {
         NodeImpl(NodeContext nodeContext,
                  Class<?> klass,
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.plan;
+
+import org.instancio.Generator;
+import org.instancio.OnCompleteCallback;
+import org.instancio.internal.InternalModel;
+import org.instancio.internal.ModelContext;
+import org.instancio.internal.nodes.CollectionNode;
+import org.instancio.internal.nodes.Node;
+import org.instancio.pojo.cyclic.IndirectCircularRef;
+import org.instancio.pojo.person.Address;
+import org.instancio.pojo.person.Person;
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Bindings.all;
+import static org.instancio.Bindings.field;
+
+class CreationPlanTest {
+
+    private final InternalModel<?> model = new InternalModel<>(ModelContext.builder(Person.class)
+            .withIgnored(field("name"))
+            .withNullable(all(Address.class))
+            .build());
+
+    private final CreationPlan creationPlan = model.getCreationPlan();
+
+    @SuppressWarnings("unused")
+    private static class Employee {
+        private Employee manager;
+    }
+
+    @Test
+    void shouldResolveIgnoredAndNullableNodes() {
+        final NodePlan namePlan = creationPlan.getPlan(getChild("name"));
+        assertThat(namePlan.isIgnored()).isTrue();
+        assertThat(namePlan.isNullable()).isFalse();
+
+        final NodePlan addressPlan = creationPlan.getPlan(getChild("address"));
+        assertThat(addressPlan.isIgnored()).isFalse();
+        assertThat(addressPlan.isNullable()).isTrue();
+    }
+
+    @Test
+    void shouldResolveGeneratorCallbackAndEffectiveType() {
+        final Generator<String> generator = random -> "foo";
+        final OnCompleteCallback<Address> callback = address -> {
+        };
+
+        final InternalModel<?> model = new InternalModel<>(ModelContext.builder(Person.class)
+                .withGenerator(all(String.class), generator)
+                .withOnCompleteCallback(field("address"), callback)
+                .withSubtypeMapping(List.class, LinkedList.class)
+                .build());
+
+        final CreationPlan plan = model.getCreationPlan();
+        final NodePlan addressPlan = plan.getPlan(getChild(model, "address"));
+        final NodePlan namePlan = plan.getPlan(getChild(model, "name"));
+        final NodePlan phoneNumbersPlan = plan.getPlan(getChild(getChild(model, "address"), "phoneNumbers"));
+
+        assertThat(addressPlan.getCallback()).isSameAs(callback);
+        assertThat(addressPlan.getUserSuppliedGenerator()).isNull();
+        assertThat(addressPlan.getEffectiveType()).isEqualTo(Address.class);
+        assertThat(namePlan.getUserSuppliedGenerator()).isSameAs(generator);
+        assertThat(namePlan.getCallback()).isNull();
+        assertThat(phoneNumbersPlan.getEffectiveType()).isEqualTo(LinkedList.class);
+    }
+
+    @Test
+    void shouldReturnSamePlanForSameNode() {
+        final Node node = getChild("age");
+        assertThat(creationPlan.getPlan(node)).isSameAs(creationPlan.getPlan(node));
+    }
+
+    @Test
+    void setHandlerIndex() {
+        final Node node = getChild("age");
+        assertThat(creationPlan.getPlan(node).getHandlerIndex()).isEqualTo(NodePlan.UNRESOLVED_HANDLER);
+
+        creationPlan.setHandlerIndex(node, 2);
+
+        final NodePlan plan = creationPlan.getPlan(node);
+        assertThat(plan.getHandlerIndex()).isEqualTo(2);
+        assertThat(plan.isIgnored()).isFalse();
+        assertThat(plan.isNullable()).isFalse();
+    }
+
+    @Test
+    void shouldMarkNodeThatRepeatsAnAncestorAsCyclic() {
+        final InternalModel<?> model = new InternalModel<>(ModelContext.builder(IndirectCircularRef.class).build());
+        final CreationPlan plan = model.getCreationPlan();
+        final String[] path = {"startA", "b", "c", "endA", "b", "c", "endA"};
+
+        Node node = model.getRootNode();
+        assertThat(plan.getPlan(node).isCyclic()).isFalse();
+
+        for (int i = 0; i < path.length; i++) {
+            node = getChild(node, path[i]);
+            assertThat(plan.getPlan(node).isCyclic())
+                    .as("Only the second 'endA' repeats an ancestor with the same parent")
+                    .isEqualTo(i == path.length - 1);
+        }
+    }
+
+    @Test
+    void backReferenceDepth() {
+        final InternalModel<?> model = new InternalModel<>(ModelContext.builder(IndirectCircularRef.class)
+                .withSettings(Settings.create().set(Setting.BACK_REFERENCES, true))
+                .build());
+        final CreationPlan plan = model.getCreationPlan();
+
+        final Node startA = getChild(model, "startA");
+        final Node endA = getChild(getChild(getChild(startA, "b"), "c"), "endA");
+
+        assertThat(plan.getPlan(startA).getBackReferenceDepth()).isEqualTo(NodePlan.NO_BACK_REFERENCE);
+        // endA -> c -> b -> startA
+        assertThat(plan.getPlan(endA).getBackReferenceDepth()).isEqualTo(2);
+
+        final InternalModel<?> selfTyped = new InternalModel<>(ModelContext.builder(Employee.class)
+                .withSettings(Settings.create().set(Setting.BACK_REFERENCES, true))
+                .build());
+        final CreationPlan selfTypedPlan = selfTyped.getCreationPlan();
+        // a field that repeats the relationship its owner was reached through
+        final Node manager = getChild(selfTyped, "manager");
+        assertThat(selfTypedPlan.getPlan(manager).getBackReferenceDepth()).isEqualTo(NodePlan.NO_BACK_REFERENCE);
+        assertThat(selfTypedPlan.getPlan(getChild(manager, "manager")).getBackReferenceDepth())
+                .isEqualTo(NodePlan.NO_BACK_REFERENCE);
+
+        assertThat(creationPlan.getPlan(getChild("address")).getBackReferenceDepth())
+                .as("Back references are disabled by default")
+                .isEqualTo(NodePlan.NO_BACK_REFERENCE);
+    }
+
+    @Test
+    void beyondMaxDepth() {
+        final InternalModel<?> model = new InternalModel<>(ModelContext.builder(Person.class)
+                .withSettings(Settings.create().set(Setting.MAX_DEPTH, 2))
+                .build());
+        final CreationPlan plan = model.getCreationPlan();
+
+        final Node address = getChild(model, "address");
+        final Node phoneNumbers = getChild(address, "phoneNumbers");
+        final Node phone = ((CollectionNode) phoneNumbers).getElementNode();
+
+        assertThat(plan.getPlan(address).isBeyondMaxDepth()).isFalse();
+        assertThat(plan.getPlan(phoneNumbers).isBeyondMaxDepth()).isFalse();
+        assertThat(plan.getPlan(phone).isBeyondMaxDepth()).isTrue();
+        assertThat(creationPlan.getPlan(phone).isBeyondMaxDepth())
+                .as("Maximum depth is disabled by default")
+                .isFalse();
+    }
+
+    @Test
+    void shouldCreatePlansForNodesWithLargeIds() {
+        Node node = model.getRootNode();
+        // each implementor node is assigned the next id
+        for (int i = 0; i < 100; i++) {
+            node = node.getImplementorNode(i % 2 == 0 ? Address.class : Person.class);
+        }
+        assertThat(node.getId()).isGreaterThan(64);
+        assertThat(creationPlan.getPlan(node)).isNotNull();
+    }
+
+    private Node getChild(final String fieldName) {
+        return getChild(model, fieldName);
+    }
+
+    private static Node getChild(final InternalModel<?> model, final String fieldName) {
+        return getChild(model.getRootNode(), fieldName);
+    }
+
+    private static Node getChild(final Node node, final String fieldName) {
+        return node.getChildren().stream()
+                .filter(it -> it.getField().getName().equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No child node for field: " + fieldName));
+    }
+}
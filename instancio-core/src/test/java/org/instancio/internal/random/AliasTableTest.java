@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.testsupport.tags.NonDeterministicTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AliasTableTest {
+    private static final int SAMPLE_SIZE = 100_000;
+
+    @NonDeterministicTag
+    @EnumSource(RandomAlgorithm.class)
+    @ParameterizedTest
+    void shouldSampleProportionallyToWeights(final RandomAlgorithm algorithm) {
+        final double[] weights = {1, 0, 4, 2.5, 0.5, 2};
+        final AliasTable table = AliasTable.of(weights);
+        final RandomProvider random = new RandomProviderImpl(algorithm.ordinal(), algorithm);
+
+        final int[] counts = new int[weights.length];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            counts[table.next(random)]++;
+        }
+
+        assertThat(table.size()).isEqualTo(weights.length);
+        assertThat(counts[1]).isZero();
+        for (int i = 0; i < weights.length; i++) {
+            assertThat(counts[i] / (double) SAMPLE_SIZE).isCloseTo(weights[i] / 10, within(0.01));
+        }
+    }
+
+    @Test
+    void singleWeight() {
+        final AliasTable table = AliasTable.of(new double[]{0.1});
+        final RandomProvider random = new RandomProviderImpl();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(table.next(random)).isZero();
+        }
+    }
+
+    @Test
+    void validation() {
+        assertThatThrownBy(() -> AliasTable.of(new double[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weights must not be empty");
+
+        assertThatThrownBy(() -> AliasTable.of(new double[]{1, Double.POSITIVE_INFINITY}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Weight must be a finite non-negative number: Infinity");
+
+        assertThatThrownBy(() -> AliasTable.of(new double[]{0, 0}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("At least one weight must be positive");
+    }
+}
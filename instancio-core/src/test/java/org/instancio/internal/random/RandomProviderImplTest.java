@@ -27,12 +27,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.data.Percentage.withPercentage;
 
 @NonDeterministicTag
@@ -49,6 +51,18 @@ class RandomProviderImplTest {
         results = new HashSet<>();
     }
 
+    @Test
+    void reseed() {
+        final RandomProviderImpl provider = new RandomProviderImpl(1, RandomAlgorithm.XOSHIRO256_STAR_STAR);
+        provider.reseed(Long.MAX_VALUE);
+        final long first = provider.nextLong();
+        provider.nextLong();
+        provider.reseed(Long.MAX_VALUE);
+
+        assertThat(provider.nextLong()).isEqualTo(first);
+        assertThat(provider.getSeed()).isEqualTo(1);
+    }
+
     @Test
     void trueOrFalse() {
         int[] counts = new int[2];
@@ -131,6 +145,18 @@ class RandomProviderImplTest {
             assertThat(counts[0]).isCloseTo(SAMPLE_SIZE / list.size(), withPercentage(PERCENTAGE_THRESHOLD));
         }
 
+        @Test
+        void randomAccessListShouldSelectSameElementAsOtherCollections() {
+            final List<Integer> list = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+            final Set<Integer> set = new LinkedHashSet<>(list);
+            final RandomProvider listRandom = new RandomProviderImpl(123);
+            final RandomProvider setRandom = new RandomProviderImpl(123);
+
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                assertThat(listRandom.from(list)).isEqualTo(setRandom.from(set));
+            }
+        }
+
         @Test
         void fromSingleElementCollection() {
             final Set<String> set = Collections.singleton("foo");
@@ -259,4 +285,105 @@ class RandomProviderImplTest {
         }
     }
 
+    @Nested
+    class PrimitiveTest {
+
+        @Test
+        void nextInt() {
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                final int value = random.nextInt(5);
+                assertThat(value).isBetween(0, 4);
+                results.add(value);
+            }
+            assertThat(results).hasSize(5);
+        }
+
+        @Test
+        void nextLong() {
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                assertThat(random.nextLong(Long.MAX_VALUE)).isNotNegative();
+            }
+        }
+
+        @Test
+        void nextBoolean() {
+            int count = 0;
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                if (random.nextBoolean(0.25)) count++;
+            }
+            assertThat(count).isCloseTo(SAMPLE_SIZE / 4, withPercentage(PERCENTAGE_THRESHOLD));
+        }
+
+        @Test
+        void nextBooleanWithZeroAndOneProbability() {
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                assertThat(random.nextBoolean(0)).isFalse();
+                assertThat(random.nextBoolean(1)).isTrue();
+            }
+        }
+
+        @Test
+        void fill() {
+            final int[] array = new int[SAMPLE_SIZE];
+            random.fill(array, -3, 3);
+            for (int value : array) {
+                assertThat(value).isBetween(-3, 2);
+                results.add(value);
+            }
+            assertThat(results).hasSize(6);
+        }
+
+        @Test
+        void fillWithFullIntRange() {
+            final int[] array = new int[SAMPLE_SIZE];
+            random.fill(array, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            for (int value : array) {
+                results.add(value);
+            }
+            assertThat(results).hasSizeGreaterThan(SAMPLE_SIZE * 99 / 100);
+        }
+
+        @Test
+        void fillShouldMatchIntBetween() {
+            final RandomProviderImpl filling = new RandomProviderImpl(123);
+            final RandomProviderImpl drawing = new RandomProviderImpl(123);
+            final int[] array = new int[1000];
+            filling.fill(array, 10, 20);
+            for (int value : array) {
+                assertThat(value).isEqualTo(drawing.intBetween(10, 20));
+            }
+        }
+
+        @Test
+        void fillWithInvalidRange() {
+            final int[] array = new int[1];
+            assertThatThrownBy(() -> random.fill(array, 5, 5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Min must be less than max");
+        }
+
+        @Test
+        void intBetweenWithInvalidRange() {
+            assertThatThrownBy(() -> random.intBetween(5, 5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Min must be less than max");
+        }
+
+        /**
+         * The int fast path must produce the same values as drawing
+         * a long within the same range, which was used previously.
+         */
+        @Test
+        void intBetweenShouldMatchLongBetween() {
+            final RandomProviderImpl ints = new RandomProviderImpl(123);
+            final RandomProviderImpl longs = new RandomProviderImpl(123);
+            final int[][] ranges = {{0, 2}, {-10, 11}, {Integer.MIN_VALUE, 0}, {Integer.MIN_VALUE, Integer.MAX_VALUE}};
+
+            for (int[] range : ranges) {
+                for (int i = 0; i < 1000; i++) {
+                    assertThat(ints.intBetween(range[0], range[1])).isEqualTo(longs.longBetween(range[0], range[1]));
+                }
+            }
+        }
+    }
 }
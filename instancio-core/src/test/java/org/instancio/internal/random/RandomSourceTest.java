@@ -0,0 +1,264 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.settings.Setting;
+import org.instancio.settings.Settings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+class RandomSourceTest {
+    private static final int SAMPLE_SIZE = 10_000;
+    private static final long SEED = 8675309;
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void sameSeedShouldProduceSameSequence(final RandomAlgorithm algorithm) {
+        final RandomSource first = algorithm.create(SEED);
+        final RandomSource second = algorithm.create(SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+            assertThat(first.nextLong(-5, 1000)).isEqualTo(second.nextLong(-5, 1000));
+            assertThat(first.nextDouble()).isEqualTo(second.nextDouble());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void differentSeedsShouldProduceDifferentSequences(final RandomAlgorithm algorithm) {
+        final RandomSource first = algorithm.create(SEED);
+        final RandomSource second = algorithm.create(SEED + 1);
+
+        final Set<Long> results = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            results.add(first.nextLong());
+            results.add(second.nextLong());
+        }
+        assertThat(results).hasSize(SAMPLE_SIZE * 2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void nextLongWithinBounds(final RandomAlgorithm algorithm) {
+        final RandomSource random = algorithm.create(SEED);
+        final long[][] ranges = {
+                {0, 1},
+                {-3, 3},
+                {0, 1L << 32},
+                {-(1L << 40), 1L << 40},
+                {0, (1L << 62) + 1},
+                {Long.MIN_VALUE, Long.MAX_VALUE},
+                {Long.MIN_VALUE / 2, Long.MAX_VALUE}
+        };
+
+        for (long[] range : ranges) {
+            for (int i = 0; i < SAMPLE_SIZE; i++) {
+                assertThat(random.nextLong(range[0], range[1])).isGreaterThanOrEqualTo(range[0]).isLessThan(range[1]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void nextLongShouldProduceAllValuesInSmallRange(final RandomAlgorithm algorithm) {
+        final RandomSource random = algorithm.create(SEED);
+        final int[] counts = new int[7];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            counts[(int) random.nextLong(0, counts.length)]++;
+        }
+        for (int count : counts) {
+            assertThat(count).isGreaterThan(SAMPLE_SIZE / counts.length / 2);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void boundedDrawsShouldMatchRangeDraws(final RandomAlgorithm algorithm) {
+        final RandomSource bounded = algorithm.create(SEED);
+        final RandomSource ranged = algorithm.create(SEED);
+        final long[] bounds = {1, 7, Integer.MAX_VALUE - 1L, Integer.MAX_VALUE, 1L << 32, (1L << 32) + 1, 1L << 62};
+
+        for (long bound : bounds) {
+            for (int i = 0; i < 1000; i++) {
+                assertThat(bounded.nextLong(bound)).isEqualTo(ranged.nextLong(0, bound));
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bounded.nextInt(26)).isEqualTo(ranged.nextLong(0, 26));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void nextCharsShouldProduceAllCharactersUniformly(final RandomAlgorithm algorithm) {
+        final RandomSource random = algorithm.create(SEED);
+        final char[] alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+        final char[] chars = new char[SAMPLE_SIZE + 2];
+        chars[0] = '<';
+        chars[chars.length - 1] = '>';
+        random.nextChars(chars, 1, SAMPLE_SIZE, alphabet);
+
+        final int[] counts = new int[alphabet.length];
+        for (int i = 1; i <= SAMPLE_SIZE; i++) {
+            counts[chars[i] - 'A']++;
+        }
+        for (int count : counts) {
+            assertThat(count).isCloseTo(SAMPLE_SIZE / alphabet.length, withPercentage(20));
+        }
+        assertThat(chars[0]).isEqualTo('<');
+        assertThat(chars[chars.length - 1]).isEqualTo('>');
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void nextLatin1CharsShouldMatchNextChars(final RandomAlgorithm algorithm) {
+        final String alphabet = "0123456789abcdef";
+        final char[] chars = new char[SAMPLE_SIZE];
+        final byte[] bytes = new byte[SAMPLE_SIZE];
+        algorithm.create(SEED).nextChars(chars, 0, SAMPLE_SIZE, alphabet.toCharArray());
+        algorithm.create(SEED).nextLatin1Chars(bytes, 0, SAMPLE_SIZE, alphabet.getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).isEqualTo(new String(chars));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void nextDoubleWithinBounds(final RandomAlgorithm algorithm) {
+        final RandomSource random = algorithm.create(SEED);
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0).isLessThan(1);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void splitShouldProduceIndependentSource(final RandomAlgorithm algorithm) {
+        final RandomSource random = algorithm.create(SEED);
+        final RandomSource split = random.split();
+
+        final Set<Long> results = new HashSet<>();
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            results.add(random.nextLong());
+            results.add(split.nextLong());
+        }
+        assertThat(results).hasSize(SAMPLE_SIZE * 2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomAlgorithm.class)
+    void splitShouldBeReproducible(final RandomAlgorithm algorithm) {
+        final RandomSource first = algorithm.create(SEED).split();
+        final RandomSource second = algorithm.create(SEED).split();
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+        }
+    }
+
+    @Test
+    void splitMix64ReferenceValues() {
+        final RandomSource random = new SplitMix64RandomSource(0);
+        assertThat(random.nextLong()).isEqualTo(0xE220A8397B1DCDAFL);
+        assertThat(random.nextLong()).isEqualTo(0x6E789E6AA1B965F4L);
+    }
+
+    @Test
+    void xoshiro256StarStarReferenceValues() {
+        final RandomSource random = new Xoshiro256StarStarRandomSource(1, 2, 3, 4);
+        assertThat(random.nextLong()).isEqualTo(11520L);
+        assertThat(random.nextLong()).isZero();
+        assertThat(random.nextLong()).isEqualTo(1509978240L);
+        assertThat(random.nextLong()).isEqualTo(1215971899390074240L);
+    }
+
+    @Test
+    void xoshiro256StarStarSplitShouldReturnCopyAndJumpAhead() {
+        final Xoshiro256StarStarRandomSource random = new Xoshiro256StarStarRandomSource(1, 2, 3, 4);
+        final RandomSource split = random.split();
+
+        final Xoshiro256StarStarRandomSource jumped = new Xoshiro256StarStarRandomSource(1, 2, 3, 4);
+        jumped.jump();
+
+        assertThat(split.nextLong()).isEqualTo(11520L);
+        for (int i = 0; i < 100; i++) {
+            assertThat(random.nextLong()).isEqualTo(jumped.nextLong());
+        }
+    }
+
+    @Test
+    void jdkSourceShouldMatchJavaUtilRandom() {
+        final RandomSource source = RandomAlgorithm.JDK.create(SEED);
+        final Random random = new Random(SEED);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(source.nextLong()).isEqualTo(random.nextLong());
+            assertThat(source.nextDouble()).isEqualTo(random.nextDouble());
+        }
+    }
+
+    /**
+     * Wide ranges used to be sampled by reading 8 bytes from {@link Random#nextBytes(byte[])}.
+     */
+    @Test
+    void jdkSourceWideRangeShouldMatchNextBytesImplementation() {
+        final RandomSource source = RandomAlgorithm.JDK.create(SEED);
+        final Random random = new Random(SEED);
+        final long lower = -5;
+        final long n = Integer.MAX_VALUE * 10L;
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            final byte[] byteArray = new byte[8];
+            long bits;
+            long val;
+            do {
+                random.nextBytes(byteArray);
+                bits = 0;
+                for (final byte b : byteArray) {
+                    bits = (bits << 8) | ((b) & 0xffL);
+                }
+                bits &= 0x7fffffffffffffffL;
+                val = bits % n;
+            } while (bits - val + (n - 1) < 0);
+
+            assertThat(source.nextLong(lower, lower + n)).isEqualTo(lower + val);
+        }
+    }
+
+    @Test
+    void fromSettings() {
+        assertThat(RandomAlgorithm.from(Settings.defaults())).isEqualTo(RandomAlgorithm.JDK);
+        assertThat(RandomAlgorithm.from(Settings.create().set(Setting.RANDOM_ALGORITHM, "xoshiro256_star_star")))
+                .isEqualTo(RandomAlgorithm.XOSHIRO256_STAR_STAR);
+    }
+
+    @Test
+    void invalidName() {
+        assertThatThrownBy(() -> RandomAlgorithm.from(Settings.create().set(Setting.RANDOM_ALGORITHM, "foo")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid random algorithm: 'foo'. Valid values are: [JDK, SPLITMIX64, XOSHIRO256_STAR_STAR]");
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.pojo.generics.basic.Item;
+import org.instancio.pojo.inheritance.BaseClasSubClassInheritance;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.TypeVariable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassMetadataTest {
+
+    @Test
+    void shouldReturnSameInstanceForSameClass() {
+        assertThat(ClassMetadata.of(BaseClasSubClassInheritance.SubClass.class))
+                .isSameAs(ClassMetadata.of(BaseClasSubClassInheritance.SubClass.class));
+    }
+
+    @Test
+    void fieldMetadataShouldMatchFields() {
+        final ClassMetadata metadata = ClassMetadata.of(BaseClasSubClassInheritance.SubClass.class);
+
+        assertThat(metadata.getFieldMetadata())
+                .extracting(FieldMetadata::getField)
+                .containsExactlyElementsOf(metadata.getFields());
+
+        for (FieldMetadata fieldMetadata : metadata.getFieldMetadata()) {
+            final Field field = fieldMetadata.getField();
+            assertThat(fieldMetadata.getType()).isEqualTo(field.getType());
+            assertThat(fieldMetadata.getGenericType()).isEqualTo(field.getGenericType());
+        }
+    }
+
+    @Test
+    void shouldCacheGenericType() {
+        final FieldMetadata fieldMetadata = ClassMetadata.of(Item.class).getFieldMetadata().get(0);
+        assertThat(fieldMetadata.getGenericType()).isInstanceOf(TypeVariable.class);
+    }
+
+    @Test
+    void fieldsShouldBeUnmodifiable() {
+        final ClassMetadata metadata = ClassMetadata.of(Item.class);
+        assertThatThrownBy(() -> metadata.getFields().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> metadata.getFieldMetadata().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
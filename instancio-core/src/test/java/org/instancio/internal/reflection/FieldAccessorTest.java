@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldAccessorTest {
+
+    @SuppressWarnings("unused")
+    private static class Fields {
+        private static String staticField;
+        private final String finalField = "initial";
+        private String stringField;
+        private int intField;
+        private long longField;
+    }
+
+    private static FieldAccessor accessor(final String fieldName) {
+        return FieldAccessor.of(ReflectionUtils.getField(Fields.class, fieldName));
+    }
+
+    @Test
+    void shouldReturnCachedAccessor() {
+        assertThat(accessor("stringField")).isSameAs(accessor("stringField"));
+        assertThat(accessor("stringField").getField().getName()).isEqualTo("stringField");
+    }
+
+    @Test
+    void setObjectAndPrimitiveFields() {
+        final Fields target = new Fields();
+
+        accessor("stringField").set(target, "foo");
+        accessor("intField").set(target, 123);
+
+        assertThat(target.stringField).isEqualTo("foo");
+        assertThat(target.intField).isEqualTo(123);
+    }
+
+    @Test
+    void shouldWidenPrimitiveValues() {
+        final Fields target = new Fields();
+        accessor("longField").set(target, 5);
+        assertThat(target.longField).isEqualTo(5L);
+    }
+
+    @Test
+    void setFinalField() throws Exception {
+        final Fields target = new Fields();
+        final Field field = ReflectionUtils.getField(Fields.class, "finalField");
+
+        FieldAccessor.of(field).set(target, "updated");
+
+        assertThat(field.get(target)).isEqualTo("updated");
+    }
+
+    @Test
+    void setStaticField() {
+        accessor("staticField").set(new Fields(), "static");
+        assertThat(Fields.staticField).isEqualTo("static");
+    }
+
+    @Test
+    void shouldReportIncompatibleTypes() {
+        final Fields target = new Fields();
+
+        assertThatThrownBy(() -> accessor("stringField").set(target, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Can not set java.lang.String field");
+
+        assertThatThrownBy(() -> accessor("intField").set(target, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportIncompatibleTarget() {
+        assertThatThrownBy(() -> accessor("stringField").set("not a target", "foo"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> accessor("stringField").set(null, "foo"))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.pojo.interfaces.MultipleInterfaceImpls;
+import org.instancio.pojo.interfaces.SingleInterfaceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterfaceImplementationResolverTest {
+
+    private final ImplementationResolver resolver = new InterfaceImplementationResolver();
+
+    @Test
+    void shouldResolveSingleImplementation() {
+        assertThat(resolver.resolve(SingleInterfaceImpl.Widget.class))
+                .contains(SingleInterfaceImpl.WidgetImpl.class);
+    }
+
+    @Test
+    void shouldNotResolveIfMultipleImplementationsExist() {
+        assertThat(resolver.resolve(MultipleInterfaceImpls.Widget.class)).isEmpty();
+    }
+
+    @Test
+    void shouldResolveSameImplementationAfterRefresh() {
+        assertThat(resolver.resolve(SingleInterfaceImpl.Widget.class))
+                .contains(SingleInterfaceImpl.WidgetImpl.class);
+
+        InterfaceImplementationResolver.refresh();
+
+        assertThat(resolver.resolve(SingleInterfaceImpl.Widget.class))
+                .contains(SingleInterfaceImpl.WidgetImpl.class);
+    }
+
+    @Test
+    void shouldScanClasspathForTypesNotCoveredByPrebuiltIndex(@TempDir final Path tempDir) throws IOException {
+        final Path indexFile = tempDir.resolve(SubtypeIndex.PREBUILT_INDEX_LOCATION);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, (MultipleInterfaceImpls.Widget.class.getName() + "="
+                + MultipleInterfaceImpls.WidgetA.class.getName()).getBytes(StandardCharsets.ISO_8859_1));
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader originalClassLoader = thread.getContextClassLoader();
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[]{tempDir.toUri().toURL()}, originalClassLoader)) {
+
+            thread.setContextClassLoader(classLoader);
+            InterfaceImplementationResolver.refresh();
+
+            // covered by the prebuilt index
+            assertThat(resolver.resolve(MultipleInterfaceImpls.Widget.class))
+                    .contains(MultipleInterfaceImpls.WidgetA.class);
+
+            // not covered, therefore resolved by scanning the classpath
+            assertThat(resolver.resolve(SingleInterfaceImpl.Widget.class))
+                    .contains(SingleInterfaceImpl.WidgetImpl.class);
+        } finally {
+            thread.setContextClassLoader(originalClassLoader);
+            InterfaceImplementationResolver.refresh();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflection;
+
+import org.instancio.pojo.interfaces.MultipleInterfaceImpls;
+import org.instancio.pojo.interfaces.SingleInterfaceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubtypeIndexTest {
+
+    private static SubtypeIndex load(final String content) throws IOException {
+        return SubtypeIndex.load(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    void shouldResolveDirectAndIndirectSubtypes() throws IOException {
+        final SubtypeIndex index = load("a.A=b.B, c.C\nb.B=d.D\nd.D=b.B\n");
+
+        assertThat(index.getSubtypeNames("a.A")).containsExactlyInAnyOrder("b.B", "c.C", "d.D");
+        assertThat(index.getSubtypeNames("b.B")).containsExactlyInAnyOrder("d.D", "b.B");
+        assertThat(index.getSubtypeNames("c.C")).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.contains("a.A")).isTrue();
+        assertThat(index.contains("c.C")).isFalse();
+    }
+
+    @Test
+    void storeAndLoad() throws IOException {
+        final SubtypeIndex index = load("a.A=b.B,c.C\n");
+        final StringWriter writer = new StringWriter();
+        index.store(writer);
+
+        assertThat(load(writer.toString()).getSubtypeNames("a.A")).containsExactly("b.B", "c.C");
+    }
+
+    @Test
+    void scanClasspath() {
+        final SubtypeIndex index = SubtypeIndex.scanClasspath();
+
+        assertThat(index.getSubtypeNames(SingleInterfaceImpl.Widget.class.getName()))
+                .containsExactly(SingleInterfaceImpl.WidgetImpl.class.getName());
+
+        assertThat(index.getSubtypeNames(MultipleInterfaceImpls.Widget.class.getName()))
+                .containsExactlyInAnyOrder(
+                        MultipleInterfaceImpls.WidgetA.class.getName(),
+                        MultipleInterfaceImpls.WidgetB.class.getName());
+    }
+
+    @Test
+    void loadPrebuiltShouldReturnEmptyResultIfNoIndexFilesExist() {
+        final Optional<SubtypeIndex> result = SubtypeIndex.loadPrebuilt(getClass().getClassLoader());
+        assertThat(result).isEmpty();
+    }
+}
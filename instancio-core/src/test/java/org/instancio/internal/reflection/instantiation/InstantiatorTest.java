@@ -19,12 +19,15 @@ import org.instancio.pojo.basic.IntegerHolder;
 import org.instancio.pojo.basic.IntegerHolderWithPrivateDefaultConstructor;
 import org.instancio.pojo.basic.IntegerHolderWithoutDefaultConstructor;
 import org.junit.jupiter.api.Test;
+import org.objenesis.instantiator.ObjectInstantiator;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -48,5 +51,50 @@ class InstantiatorTest {
     void instantiateReturnNullIfTypeCannotBeInstantiated() {
         final Class<?> klass = List.class;
         assertThat(instantiator.instantiate(klass)).isNull();
+        assertThat(instantiator.instantiate(klass)).isNull();
+    }
+
+    @Test
+    void shouldCreateNewInstancesUsingMemoizedInstantiator() {
+        final IntegerHolder first = instantiator.instantiate(IntegerHolder.class);
+        final IntegerHolder second = new Instantiator().instantiate(IntegerHolder.class);
+
+        assertThat(first).isNotNull().isNotSameAs(second);
+        assertThat(second).isNotNull();
+    }
+
+    @Test
+    void shouldFallBackToObjenesisIfConstructorThrowsAnError() {
+        assertThat(instantiator.instantiate(ThrowingConstructor.class)).isNotNull();
+        assertThat(instantiator.instantiate(ThrowingConstructor.class)).isNotNull();
+    }
+
+    @Test
+    void shouldNotMemoizeFailures() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final InstantiationStrategy failingOnce = new InstantiationStrategy() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> ObjectInstantiator<T> getInstantiator(final Class<T> klass) {
+                if (attempts.getAndIncrement() == 0) {
+                    throw new InstantiationStrategyException("transient failure", null);
+                }
+                return () -> (T) new NotInstantiatedBefore();
+            }
+        };
+        final Instantiator failingInstantiator = new Instantiator(Collections.singletonList(failingOnce));
+
+        assertThat(failingInstantiator.instantiate(NotInstantiatedBefore.class)).isNull();
+        assertThat(failingInstantiator.instantiate(NotInstantiatedBefore.class)).isNotNull();
+        assertThat(attempts).hasValue(2);
+    }
+
+    private static class NotInstantiatedBefore {
+    }
+
+    private static class ThrowingConstructor {
+        ThrowingConstructor() {
+            throw new IllegalStateException("expected error");
+        }
     }
 }
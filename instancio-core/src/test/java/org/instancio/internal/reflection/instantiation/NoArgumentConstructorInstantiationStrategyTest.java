@@ -21,6 +21,7 @@ import org.instancio.pojo.basic.IntegerHolderWithoutDefaultConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.objenesis.instantiator.ObjectInstantiator;
 
 import java.util.ArrayList;
 import java.util.TreeSet;
@@ -43,6 +44,12 @@ class NoArgumentConstructorInstantiationStrategyTest {
         assertThat(strategy.createInstance(klass)).isNotNull();
     }
 
+    @Test
+    void getInstantiatorShouldCreateNewInstances() {
+        final ObjectInstantiator<IntegerHolder> instantiator = strategy.getInstantiator(IntegerHolder.class);
+        assertThat(instantiator.newInstance()).isNotSameAs(instantiator.newInstance());
+    }
+
     @Test
     void createInstanceFails() {
         final Class<?> klass = IntegerHolderWithoutDefaultConstructor.class;
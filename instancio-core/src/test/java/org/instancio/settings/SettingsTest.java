@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -88,6 +89,64 @@ class SettingsTest {
         assertThat(result).as("Expecting a new instance of settings to be created").isNotSameAs(defaults);
     }
 
+    @Test
+    void mergeIntoLockedSettingsShouldNotModifyLockedSettings() {
+        final Settings base = Settings.defaults().mapType(List.class, ArrayList.class).lock();
+        final Settings result = base.merge(Settings.create()
+                .set(Setting.BYTE_MIN, (byte) 99)
+                .mapType(Set.class, HashSet.class));
+
+        assertThat((Byte) result.get(Setting.BYTE_MIN)).isEqualTo((byte) 99);
+        assertThat((Byte) base.get(Setting.BYTE_MIN)).isEqualTo(Setting.BYTE_MIN.defaultValue());
+        assertThat(result.getSubtypeMap())
+                .containsEntry(List.class, ArrayList.class)
+                .containsEntry(Set.class, HashSet.class);
+        assertThat(base.getSubtypeMap()).doesNotContainKey(Set.class);
+    }
+
+    @Test
+    void mergeIntoLockedSettingsShouldBeEqualToMergeIntoUnlockedSettings() {
+        final Settings overrides = Settings.create().set(Setting.LONG_MAX, 5L);
+        final Settings fromLocked = Settings.defaults().lock().merge(overrides).lock();
+        final Settings fromUnlocked = Settings.defaults().merge(overrides);
+
+        assertSameValues(fromLocked, fromUnlocked);
+        assertSameValues(Settings.from(fromLocked), fromUnlocked);
+        assertSameValues(fromLocked.merge(Settings.create()).lock(), fromUnlocked);
+    }
+
+    @Test
+    void lockedOverlaysShouldFallBackToBaseValues() {
+        final Settings base = Settings.defaults().lock();
+        final Settings first = base.merge(Settings.create().set(Setting.LONG_MAX, 5L)).lock();
+        final Settings second = first.merge(Settings.create().set(Setting.LONG_MAX, 6L)).lock();
+
+        assertThat((Long) first.get(Setting.LONG_MAX)).isEqualTo(5L);
+        assertThat((Long) second.get(Setting.LONG_MAX)).isEqualTo(6L);
+        assertThat((Long) second.get(Setting.LONG_MIN)).isEqualTo(Setting.LONG_MIN.defaultValue());
+        assertThat(first.getSubtypeMap()).isEqualTo(base.getSubtypeMap());
+    }
+
+    @Test
+    void nestedOverlaysShouldMatchFlattenedSettings() {
+        final Settings base = Settings.defaults().mapType(List.class, ArrayList.class).lock();
+        final Settings overlay = base
+                .merge(Settings.create().set(Setting.LONG_MAX, 5L).mapType(List.class, LinkedList.class))
+                .merge(Settings.create().set(Setting.LONG_MIN, 1L).mapType(Set.class, HashSet.class))
+                .lock();
+
+        final Settings flat = Settings.defaults()
+                .set(Setting.LONG_MAX, 5L)
+                .set(Setting.LONG_MIN, 1L)
+                .mapType(List.class, LinkedList.class)
+                .mapType(Set.class, HashSet.class)
+                .lock();
+
+        assertThat((Long) overlay.get(Setting.LONG_MAX)).isEqualTo(5L);
+        assertSameValues(overlay, flat);
+        assertThat((Long) overlay.get(Setting.LONG_MIN)).as("after flattening").isEqualTo(1L);
+    }
+
     @Test
     void getReturnsNullIfKeyHasNoValue() {
         assertThat((Byte) Settings.create().get(Setting.BYTE_MIN)).isNull();
@@ -147,4 +206,11 @@ class SettingsTest {
                 .lock()
         ).hasToString(expected);
     }
+
+    private static void assertSameValues(final Settings actual, final Settings expected) {
+        for (Setting setting : Setting.values()) {
+            assertThat((Object) actual.get(setting)).as(setting.name()).isEqualTo(expected.get(setting));
+        }
+        assertThat(actual.getSubtypeMap()).isEqualTo(expected.getSubtypeMap());
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeedUtilTest {
+
+    @Test
+    void deriveSeedShouldDependOnlyOnArguments() {
+        assertThat(SeedUtil.deriveSeed(123, 5)).isEqualTo(SeedUtil.deriveSeed(123, 5));
+        assertThat(SeedUtil.deriveSeed(123, 5)).isNotEqualTo(SeedUtil.deriveSeed(124, 5));
+        assertThat(SeedUtil.deriveSeed(123, 5)).isNotEqualTo(SeedUtil.deriveSeed(123, 6));
+    }
+
+    @Test
+    void derivedSeedsShouldNotCollide() {
+        final int size = 1_000_000;
+        final long[] seeds = new long[size];
+        for (int i = 0; i < size; i++) {
+            seeds[i] = SeedUtil.deriveSeed(42, i);
+        }
+        Arrays.sort(seeds);
+
+        int duplicates = 0;
+        for (int i = 1; i < size; i++) {
+            if (seeds[i] == seeds[i - 1]) {
+                duplicates++;
+            }
+        }
+        assertThat(duplicates).isZero();
+    }
+}